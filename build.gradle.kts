@@ -2,6 +2,8 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.5.7"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2"
+	id("org.graalvm.buildtools.native") version "0.10.6"
 }
 
 group = "com.example"
@@ -28,19 +30,122 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
 	implementation("org.springframework.boot:spring-boot-starter-validation")
 	implementation("org.springframework.boot:spring-boot-starter-web")
+	// Reactive profile only: WebFlux on Netty and R2DBC (see application-reactive.yml)
+	implementation("org.springframework.boot:spring-boot-starter-webflux")
+	implementation("org.springframework.boot:spring-boot-starter-data-r2dbc")
     implementation("org.mapstruct:mapstruct:1.5.5.Final")
     implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.flywaydb:flyway-core")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("com.fasterxml.jackson.module:jackson-module-blackbird")
     compileOnly("org.projectlombok:lombok")
 	runtimeOnly("com.h2database:h2")
+	runtimeOnly("org.postgresql:postgresql")
+	runtimeOnly("org.flywaydb:flyway-database-postgresql")
+	runtimeOnly("io.r2dbc:r2dbc-h2")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 	annotationProcessor("org.projectlombok:lombok")
     annotationProcessor("org.mapstruct:mapstruct-processor:1.5.5.Final")
     annotationProcessor("org.projectlombok:lombok-mapstruct-binding:0.2.0")
     testImplementation("org.springframework.boot:spring-boot-starter-test")
+	testImplementation("io.projectreactor:reactor-test")
 	testImplementation("org.springframework.boot:spring-boot-testcontainers")
 	testImplementation("org.testcontainers:junit-jupiter")
+	testImplementation("org.testcontainers:postgresql")
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+tasks.test {
+	useJUnitPlatform {
+		excludeTags("load")
+	}
+}
+
+// Load tests start full application contexts and drive them over HTTP; run them explicitly.
+tasks.register<Test>("loadTest") {
+	group = "verification"
+	description = "Runs the @Tag(\"load\") throughput and latency comparisons."
+	testClassesDirs = sourceSets.test.get().output.classesDirs
+	classpath = sourceSets.test.get().runtimeClasspath
+	useJUnitPlatform {
+		includeTags("load")
+	}
+	maxHeapSize = "2g"
+	testLogging {
+		showStandardStreams = true
+	}
+}
+
+// Microbenchmarks live in src/jmh/java. `./gradlew jmh` runs them with the GC profiler;
+// `./gradlew jmhReport` copies the JSON results to build/reports/jmh/jmh-<version>.json for release comparisons.
+jmh {
+	jmhVersion = "1.37"
+	profilers = listOf("gc")
+	resultFormat = "JSON"
+	resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+	fork = 1
+	warmupIterations = 3
+	iterations = 5
+	includes = providers.gradleProperty("jmhIncludes").map { listOf(it) }.orElse(listOf(".*"))
+}
+
+tasks.register<Copy>("jmhReport") {
+	group = "benchmark"
+	description = "Runs the JMH benchmarks and stores the JSON results under the project version."
+	dependsOn("jmh")
+	from(layout.buildDirectory.file("results/jmh/results.json"))
+	into(layout.buildDirectory.dir("reports/jmh"))
+	rename { "jmh-${project.version}.json" }
+}
+
+// Startup. With the native plugin applied, Spring AOT (`processAot`) runs during the build and its output is
+// packaged in the boot jar; the JVM uses it when started with -Dspring.aot.enabled=true. AOT fixes the bean
+// set at build time: the default profile and property-conditional beans (such as loan.credit.provider) are
+// resolved then, so pass any overrides to processAot.
+//   ./gradlew nativeCompile   GraalVM native image at build/native/nativeCompile/loan-origination (needs GraalVM)
+//   ./gradlew cdsArchive      boot jar extracted to build/cds plus a Class Data Sharing archive from a training run
+graalvmNative {
+	metadataRepository {
+		enabled = true
+	}
+	binaries {
+		named("main") {
+			imageName = "loan-origination"
+		}
+	}
+}
+
+val cdsDir = layout.buildDirectory.dir("cds")
+val cdsJava = javaToolchains.launcherFor(java.toolchain)
+
+tasks.register<Exec>("cdsExtract") {
+	group = "build"
+	description = "Extracts the boot jar into build/cds, the layout Class Data Sharing needs."
+	dependsOn(tasks.bootJar)
+	inputs.file(tasks.bootJar.flatMap { it.archiveFile })
+	outputs.dir(cdsDir)
+	doFirst {
+		delete(cdsDir)
+		executable = cdsJava.get().executablePath.asFile.absolutePath
+	}
+	args("-Djarmode=tools", "-jar", tasks.bootJar.get().archiveFile.get().asFile.absolutePath,
+		"extract", "--destination", cdsDir.get().asFile.absolutePath)
+}
+
+// The training run refreshes the context with AOT enabled and exits; the classes it loaded go into the archive.
+tasks.register<Exec>("cdsArchive") {
+	group = "build"
+	description = "Records a CDS archive for the extracted jar. Start it with the flags in scripts/startup-benchmark.sh."
+	dependsOn("cdsExtract")
+	outputs.file(cdsDir.map { it.file("application.jsa") })
+	doFirst {
+		executable = cdsJava.get().executablePath.asFile.absolutePath
+	}
+	args("-XX:ArchiveClassesAtExit=application.jsa", "-Dspring.aot.enabled=true",
+		"-Dspring.context.exit=onRefresh", "-jar", tasks.bootJar.get().archiveFileName.get())
+	workingDir(cdsDir)
+}
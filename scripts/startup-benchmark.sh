@@ -0,0 +1,73 @@
+#!/usr/bin/env bash
+# Startup time and first-request latency of the service on the JVM, on the JVM with AOT + CDS, and as a native
+# image. Each variant is started RUNS times on PORT; "ready" is the time until /actuator/health answers UP,
+# "first apply" the latency of the first POST /api/loan-applications/apply, and RSS is measured after it.
+# Medians are reported.
+#
+#   ./gradlew bootJar cdsArchive           # JVM and JVM + CDS
+#   ./gradlew nativeCompile                # native (GraalVM only; skipped when the binary is missing)
+#   scripts/startup-benchmark.sh
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+RUNS=${RUNS:-5}
+PORT=${PORT:-18080}
+JAVA=${JAVA:-java}
+JAR=$(ls build/libs/*.jar | grep -v -- '-plain.jar' | head -n 1)
+CDS_JAR=build/cds/$(basename "$JAR")
+NATIVE=build/native/nativeCompile/loan-origination
+LOGS=$PWD/build
+BODY='{"name":"Startup Bench","address":"1 Bench St","email":"startup@example.com","phone":"5551112222","ssn":"1234567890","requestedAmount":25000}'
+
+now_ms() {
+  date +%s%3N
+}
+
+median() {
+  sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : (v[NR / 2] + v[NR / 2 + 1]) / 2 }'
+}
+
+# measure <label> <command...>
+measure() {
+  local label=$1
+  shift
+  local ready=() first=() rss=()
+  for _ in $(seq "$RUNS"); do
+    local start pid
+    start=$(now_ms)
+    "$@" --server.port="$PORT" --logging.level.root=WARN >"$LOGS/startup-$label.log" 2>&1 &
+    pid=$!
+    until curl -sf "http://localhost:$PORT/actuator/health" >/dev/null; do
+      if ! kill -0 "$pid" 2>/dev/null; then
+        echo "$label exited during startup; see $LOGS/startup-$label.log" >&2
+        return 1
+      fi
+      sleep 0.01
+    done
+    ready+=($(($(now_ms) - start)))
+    first+=($(curl -s -o /dev/null -w '%{time_total}' -H 'Content-Type: application/json' -d "$BODY" \
+      "http://localhost:$PORT/api/loan-applications/apply" | awk '{ printf "%d", $1 * 1000 }'))
+    rss+=($(($(ps -o rss= -p "$pid") / 1024)))
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+  done
+  printf '%-10s ready %6s ms   first apply %5s ms   rss %5s MB\n' "$label" \
+    "$(printf '%s\n' "${ready[@]}" | median)" \
+    "$(printf '%s\n' "${first[@]}" | median)" \
+    "$(printf '%s\n' "${rss[@]}" | median)"
+}
+
+measure jvm "$JAVA" -jar "$JAR"
+
+if [[ -f build/cds/application.jsa ]]; then
+  (cd build/cds && measure jvm+cds "$JAVA" -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true \
+    -jar "$(basename "$CDS_JAR")")
+else
+  echo "jvm+cds    skipped: run ./gradlew cdsArchive"
+fi
+
+if [[ -x $NATIVE ]]; then
+  measure native "$NATIVE"
+else
+  echo "native     skipped: run ./gradlew nativeCompile with a GraalVM JDK"
+fi
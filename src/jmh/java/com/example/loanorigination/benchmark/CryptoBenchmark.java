@@ -0,0 +1,36 @@
+package com.example.loanorigination.benchmark;
+
+import com.example.loanorigination.util.CryptoUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SSN encryption round trip as done for every new applicant.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CryptoBenchmark {
+
+    private final CryptoUtil cryptoUtil = new CryptoUtil("1234567890123456");
+
+    private String plain;
+    private String encrypted;
+
+    @Setup
+    public void setUp() {
+        plain = "1234567890";
+        encrypted = cryptoUtil.encrypt(plain);
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return cryptoUtil.encrypt(plain);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return cryptoUtil.decrypt(encrypted);
+    }
+}
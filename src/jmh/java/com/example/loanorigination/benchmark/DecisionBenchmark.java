@@ -0,0 +1,70 @@
+package com.example.loanorigination.benchmark;
+
+import com.example.loanorigination.service.AmortizationTable;
+import com.example.loanorigination.service.LoanDecision;
+import com.example.loanorigination.service.LoanDecisionEngine;
+import com.example.loanorigination.service.RateTier;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decision and payment hot path across amount and credit-line distributions.
+ * "inRange" keeps every amount inside the 10k–50k band; "mixed" spreads amounts over 1k–100k
+ * so roughly half the calls take the preallocated denial path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DecisionBenchmark {
+
+    private static final int SAMPLES = 1024;
+
+    @Param({"inRange", "mixed"})
+    public String amounts;
+
+    @Param({"uniform", "lowTier"})
+    public String creditLines;
+
+    private final AmortizationTable table = new AmortizationTable(RateTier.DEFAULT_TIERS);
+    private final LoanDecisionEngine engine = new LoanDecisionEngine(table);
+
+    private long[] amountCents;
+    private int[] lines;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        amountCents = new long[SAMPLES];
+        lines = new int[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            amountCents[i] = "inRange".equals(amounts)
+                    ? random.nextLong(1_000_000L, 5_000_001L)
+                    : random.nextLong(100_000L, 10_000_001L);
+            lines[i] = "lowTier".equals(creditLines) ? random.nextInt(10) : random.nextInt(101);
+        }
+    }
+
+    @Benchmark
+    public LoanDecision evaluateDecision() {
+        int i = cursor++ & (SAMPLES - 1);
+        return engine.evaluate(amountCents[i], lines[i]);
+    }
+
+    @Benchmark
+    public long amortizedMonthlyCached() {
+        int i = cursor++ & (SAMPLES - 1);
+        return table.monthlyPaymentCents(amountCents[i], RateTier.STANDARD);
+    }
+
+    /** The pre-cache formula, kept as a baseline for {@link #amortizedMonthlyCached()}. */
+    @Benchmark
+    public long amortizedMonthlyPow() {
+        int i = cursor++ & (SAMPLES - 1);
+        double r = RateTier.STANDARD.monthlyRate();
+        double payment = amountCents[i] * r / (1 - Math.pow(1 + r, -RateTier.STANDARD.termMonths()));
+        return Math.round(payment);
+    }
+}
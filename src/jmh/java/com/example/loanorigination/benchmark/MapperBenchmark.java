@@ -0,0 +1,65 @@
+package com.example.loanorigination.benchmark;
+
+import com.example.loanorigination.dto.LoanApplicationRequestDto;
+import com.example.loanorigination.dto.LoanOfferDto;
+import com.example.loanorigination.entity.Applicant;
+import com.example.loanorigination.entity.LoanApplication;
+import com.example.loanorigination.entity.LoanOffer;
+import com.example.loanorigination.mapper.LoanMapper;
+import com.example.loanorigination.mapper.LoanMapperImpl;
+import com.example.loanorigination.util.CryptoUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct conversions used on every application. toApplicant includes SSN encryption.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+
+    private final LoanMapper mapper = new LoanMapperImpl();
+    private final CryptoUtil cryptoUtil = new CryptoUtil("1234567890123456");
+
+    private LoanApplicationRequestDto request;
+    private Applicant applicant;
+    private LoanOffer offer;
+
+    @Setup
+    public void setUp() {
+        request = LoanApplicationRequestDto.builder()
+                .name("Jane Doe")
+                .address("123 Main St")
+                .email("jane@example.com")
+                .phone("5551112222")
+                .ssn("1234567890")
+                .requestedAmount(BigDecimal.valueOf(25000))
+                .build();
+        applicant = mapper.toApplicant(cryptoUtil, request);
+        offer = LoanOffer.builder()
+                .decision("APPROVED")
+                .requestedAmount(BigDecimal.valueOf(25000))
+                .interestRate(BigDecimal.valueOf(0.20))
+                .termMonths(24)
+                .monthlyPayment(BigDecimal.valueOf(1272.40))
+                .build();
+    }
+
+    @Benchmark
+    public Applicant toApplicant() {
+        return mapper.toApplicant(cryptoUtil, request);
+    }
+
+    @Benchmark
+    public LoanApplication toLoanApplication() {
+        return mapper.toLoanApplication(request, applicant);
+    }
+
+    @Benchmark
+    public LoanOfferDto toLoanOfferDto() {
+        return mapper.toLoanOfferDto(offer);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.loanorigination.benchmark;
+
+import com.example.loanorigination.util.DataMaskingUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Masking helpers used when logging and exporting applicant data.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MaskingBenchmark {
+
+    @Param({"123456789", "123-45-6789"})
+    public String ssn;
+
+    private final String email = "jane.doe@example.com";
+
+    @Benchmark
+    public String maskSsn() {
+        return DataMaskingUtil.maskSsn(ssn);
+    }
+
+    @Benchmark
+    public String maskEmail() {
+        return DataMaskingUtil.maskEmail(email);
+    }
+}
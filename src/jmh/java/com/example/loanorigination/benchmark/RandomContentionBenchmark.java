@@ -0,0 +1,38 @@
+package com.example.loanorigination.benchmark;
+
+import com.example.loanorigination.util.RandomSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Credit-line draws from many threads at once, as on the apply path.
+ * {@code sharedRandom} is the former single {@link Random} bean, whose CAS seed update is contended;
+ * the other two are the {@link RandomSource} implementations used in production and in seeded simulations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(16)
+public class RandomContentionBenchmark {
+
+    private final Random shared = new Random();
+    private final RandomSource threadLocal = RandomSource.threadLocal();
+    private final RandomSource seeded = RandomSource.seeded(42);
+
+    @Benchmark
+    public int sharedRandom() {
+        return shared.nextInt(101);
+    }
+
+    @Benchmark
+    public int threadLocalSource() {
+        return threadLocal.generator().nextInt(101);
+    }
+
+    @Benchmark
+    public int seededSource() {
+        return seeded.generator().nextInt(101);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.loanorigination.benchmark;
+
+import com.example.loanorigination.dto.LoanApplicationRequestDto;
+import com.example.loanorigination.validation.LoanApplicationRequestValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binding and validating an /apply body: Jackson with and without Blackbird, and Hibernate Validator versus
+ * the scan-based {@link LoanApplicationRequestValidator}. Requests are valid, as almost all traffic is.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RequestBindingBenchmark {
+
+    private static final byte[] BODY = """
+            {"name":"Jane Doe","address":"123 Main St","email":"jane.doe@example.com",
+             "phone":"5551112222","ssn":"1234567890","requestedAmount":25000}
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper reflective = new ObjectMapper();
+    private final ObjectMapper blackbird = new ObjectMapper().registerModule(new BlackbirdModule());
+
+    private ValidatorFactory factory;
+    private Validator beanValidator;
+    private LoanApplicationRequestValidator requestValidator;
+    private LoanApplicationRequestDto request;
+
+    @Setup
+    public void setUp() throws IOException {
+        factory = Validation.buildDefaultValidatorFactory();
+        beanValidator = factory.getValidator();
+        requestValidator = new LoanApplicationRequestValidator(beanValidator);
+        request = reflective.readValue(BODY, LoanApplicationRequestDto.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public LoanApplicationRequestDto bindReflective() throws IOException {
+        return reflective.readValue(BODY, LoanApplicationRequestDto.class);
+    }
+
+    @Benchmark
+    public LoanApplicationRequestDto bindBlackbird() throws IOException {
+        return blackbird.readValue(BODY, LoanApplicationRequestDto.class);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<LoanApplicationRequestDto>> validateHibernate() {
+        return beanValidator.validate(request);
+    }
+
+    @Benchmark
+    public Map<String, String> validateScan() {
+        return requestValidator.errors(request);
+    }
+
+    /** The whole request path before and after: bind, then validate. */
+    @Benchmark
+    public Set<ConstraintViolation<LoanApplicationRequestDto>> bindAndValidateBefore() throws IOException {
+        return beanValidator.validate(reflective.readValue(BODY, LoanApplicationRequestDto.class));
+    }
+
+    @Benchmark
+    public Map<String, String> bindAndValidateAfter() throws IOException {
+        return requestValidator.errors(blackbird.readValue(BODY, LoanApplicationRequestDto.class));
+    }
+}
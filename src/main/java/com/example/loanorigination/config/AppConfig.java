@@ -1,13 +1,48 @@
 package com.example.loanorigination.config;
 
+import com.example.loanorigination.service.AmortizationTable;
+import com.example.loanorigination.service.LoanDecisionEngine;
+import com.example.loanorigination.service.RateTier;
+import com.example.loanorigination.util.RandomSource;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import java.util.Random;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.NativeDetector;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Configuration
+@EnableScheduling
+@ImportRuntimeHints(NativeHints.class)
 public class AppConfig {
+    /**
+     * Per-thread randomness; setting {@code loan.random.seed} makes simulated runs reproducible.
+     */
     @Bean
-    public Random random() {
-        return new Random();
+    public RandomSource randomSource(@Value("${loan.random.seed:#{null}}") Long seed) {
+        return seed != null ? RandomSource.seeded(seed) : RandomSource.threadLocal();
+    }
+
+    /**
+     * Jackson binds request and response bodies through generated lambdas instead of reflection.
+     * Picked up by Boot's auto-configured {@code ObjectMapper}. A native image cannot define classes at runtime,
+     * so there it registers an empty module and Jackson stays on reflection.
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return NativeDetector.inNativeImage() ? new SimpleModule("blackbird-disabled") : new BlackbirdModule();
+    }
+
+    @Bean
+    public AmortizationTable amortizationTable() {
+        return new AmortizationTable(RateTier.DEFAULT_TIERS);
+    }
+
+    @Bean
+    public LoanDecisionEngine loanDecisionEngine(AmortizationTable amortizationTable) {
+        return new LoanDecisionEngine(amortizationTable);
     }
 }
@@ -0,0 +1,51 @@
+package com.example.loanorigination.config;
+
+import com.example.loanorigination.service.CachingCreditDataProvider;
+import com.example.loanorigination.service.CreditDataProvider;
+import com.example.loanorigination.service.HttpCreditBureauClient;
+import com.example.loanorigination.service.RandomCreditDataProvider;
+import com.example.loanorigination.util.RandomSource;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Selects the credit data source with {@code loan.credit.provider}: {@code random} (the default) or
+ * {@code http}, a bureau client wrapped in a TTL cache.
+ */
+@Configuration
+public class CreditDataConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "loan.credit.provider", havingValue = "random", matchIfMissing = true)
+    public CreditDataProvider randomCreditDataProvider(RandomSource randomSource) {
+        return new RandomCreditDataProvider(randomSource);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "loan.credit.provider", havingValue = "http")
+    public CreditDataProvider httpCreditDataProvider(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${loan.credit.bureau.base-url}") URI baseUrl,
+            @Value("${loan.credit.bureau.connect-timeout:500ms}") Duration connectTimeout,
+            @Value("${loan.credit.bureau.request-timeout:2s}") Duration requestTimeout,
+            @Value("${loan.credit.bureau.hedge-delay:300ms}") Duration hedgeDelay,
+            @Value("${loan.credit.bureau.max-attempts:2}") int maxAttempts,
+            @Value("${loan.credit.bureau.max-concurrent-requests:32}") int maxConcurrentRequests,
+            @Value("${loan.credit.bureau.breaker.failure-threshold:5}") int breakerFailureThreshold,
+            @Value("${loan.credit.bureau.breaker.open-duration:30s}") Duration breakerOpenDuration,
+            @Value("${loan.credit.cache.ttl:24h}") Duration cacheTtl,
+            @Value("${loan.credit.cache.max-size:100000}") long cacheMaxSize) {
+        HttpCreditBureauClient client = new HttpCreditBureauClient(new HttpCreditBureauClient.Settings(
+                baseUrl, connectTimeout, requestTimeout, hedgeDelay, maxAttempts, maxConcurrentRequests,
+                breakerFailureThreshold, breakerOpenDuration), objectMapper, meterRegistry);
+        return new CachingCreditDataProvider(client, cacheTtl, cacheMaxSize, meterRegistry);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.loanorigination.config;
+
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Resources a native image must embed. Beans (including the MapStruct mapper implementations), JPA entities and
+ * controller bodies are covered by Spring AOT; types serialized outside controllers are registered with
+ * {@code @RegisterReflectionForBinding} where they are used. H2, Hibernate and Caffeine metadata comes from the
+ * GraalVM reachability metadata repository.
+ */
+class NativeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.resources()
+                .registerPattern("loan-rules.yml")
+                .registerPattern("db/migration/*.sql")
+                .registerPattern("db/vendor/*/*.sql");
+    }
+}
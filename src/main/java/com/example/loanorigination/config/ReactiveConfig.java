@@ -0,0 +1,32 @@
+package com.example.loanorigination.config;
+
+import com.example.loanorigination.controller.LoanApplicationHandler;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
+
+/**
+ * The {@code reactive} profile: WebFlux on Netty serving /apply through {@link LoanApplicationHandler}, with
+ * R2DBC for persistence (see {@code application-reactive.yml}). The MVC controllers are disabled in this profile.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveConfig {
+
+    @Bean
+    public RouterFunction<ServerResponse> loanApplicationRoutes(LoanApplicationHandler handler) {
+        return RouterFunctions.route(POST("/api/loan-applications/apply"), handler::apply);
+    }
+
+    // Tomcat is also on the classpath and would otherwise be preferred as the reactive server
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.loanorigination.controller;
+
+import com.example.loanorigination.dto.ApplicationSummaryDto;
+import com.example.loanorigination.dto.KeysetPageDto;
+import com.example.loanorigination.dto.OfferSummaryDto;
+import com.example.loanorigination.service.LoanQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@Profile("!reactive")
+@RequiredArgsConstructor
+@RequestMapping("/api/applicants")
+@CrossOrigin(origins = {"http://localhost:5173/", "http://localhost:3000"})
+public class ApplicantController {
+
+    private final LoanQueryService queryService;
+
+    /**
+     * Lists an applicant's applications, newest first.
+     * Pass the previous page's nextCursor as {@code after} to continue.
+     */
+    @GetMapping("/{applicantId}/applications")
+    public ResponseEntity<KeysetPageDto<ApplicationSummaryDto>> applications(
+            @PathVariable Long applicantId,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(queryService.applications(applicantId, after, size));
+    }
+
+    /**
+     * Lists an applicant's offers, newest first.
+     * Pass the previous page's nextCursor as {@code after} to continue.
+     */
+    @GetMapping("/{applicantId}/offers")
+    public ResponseEntity<KeysetPageDto<OfferSummaryDto>> offers(
+            @PathVariable Long applicantId,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(queryService.offers(applicantId, after, size));
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.loanorigination.controller;
+
+import com.example.loanorigination.exception.InvalidRequestException;
+import com.example.loanorigination.service.DataFileFormat;
+import com.example.loanorigination.service.DecisionExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+@Slf4j
+@RestController
+@Profile("!reactive")
+@RequiredArgsConstructor
+@RequestMapping("/api/exports")
+public class DecisionExportController {
+
+    private final DecisionExportService exportService;
+
+    /**
+     * Streams every decision made between {@code from} and {@code to} (inclusive, ISO dates) as CSV or NDJSON.
+     * Applicant email and SSN are masked.
+     */
+    @GetMapping("/decisions")
+    public ResponseEntity<StreamingResponseBody> decisions(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        DataFileFormat exportFormat = DataFileFormat.parse(format);
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidRequestException("Export start date must not be after its end date");
+        }
+        log.info("Exporting decisions as {} for {} to {}", exportFormat, from, to);
+
+        String filename = "decisions" + (from != null ? "-" + from : "") + (to != null ? "-" + to : "")
+                + "." + exportFormat.extension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(out -> exportService.export(out, exportFormat, from, to));
+    }
+}
@@ -1,39 +1,109 @@
 package com.example.loanorigination.controller;
 
+import com.example.loanorigination.dto.AmortizationScheduleDto;
+import com.example.loanorigination.dto.LoanApplicationBatchResponseDto;
 import com.example.loanorigination.dto.LoanApplicationRequestDto;
 import com.example.loanorigination.dto.LoanApplicationResponseDto;
+import com.example.loanorigination.dto.PersistenceStatusDto;
+import com.example.loanorigination.service.AmortizationScheduleService;
+import com.example.loanorigination.service.IdempotencyService;
 import com.example.loanorigination.service.LoanDecisionService;
+import com.example.loanorigination.validation.LoanApplicationRequestValidator;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Slf4j
 @RestController
+@Profile("!reactive")
 @RequiredArgsConstructor
-@RequestMapping("/api/loan-applications/apply")
+@RequestMapping("/api/loan-applications")
 @CrossOrigin(origins = {"http://localhost:5173/", "http://localhost:3000"})
 public class LoanApplicationController {
 
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final LoanDecisionService service;
+    private final AmortizationScheduleService scheduleService;
+    private final IdempotencyService idempotencyService;
+    private final LoanApplicationRequestValidator requestValidator;
+
+    /**
+     * Validates application bodies with the scan-based validator; only requests it cannot pass reach
+     * Hibernate Validator, so error responses are unchanged.
+     */
+    @InitBinder
+    void initBinder(WebDataBinder binder) {
+        if (binder.getTarget() instanceof LoanApplicationRequestDto) {
+            binder.setValidator(requestValidator);
+        }
+    }
 
     /**
      * Handles borrower loan applications.
      * Validates the request, delegates to business logic, and returns the loan decision.
+     * When an Idempotency-Key header is sent, retries with the same key return the original decision.
      */
-    @PostMapping
+    @PostMapping("/apply")
     public ResponseEntity<LoanApplicationResponseDto> apply(
-            @Valid @RequestBody LoanApplicationRequestDto request) {
+            @Valid @RequestBody LoanApplicationRequestDto request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
 
         log.info("Received loan application for name='{}', requestedAmount={}",
                 request.getName(), request.getRequestedAmount());
 
-        LoanApplicationResponseDto response = service.processLoanApplication(request);
+        LoanApplicationResponseDto response = idempotencyKey == null
+                ? service.processLoanApplication(request)
+                : idempotencyService.execute(idempotencyKey, request,
+                        store -> service.processLoanApplication(request, store));
 
         log.info("Loan decision for '{}': decision={}",
                 request.getName(), response.getDecision());
 
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Handles bulk submissions from broker partners.
+     * Each item is validated individually; results and errors are returned in submission order.
+     */
+    @PostMapping("/apply/batch")
+    public ResponseEntity<LoanApplicationBatchResponseDto> applyBatch(
+            @RequestBody List<LoanApplicationRequestDto> requests) {
+
+        log.info("Received batch of {} loan applications", requests.size());
+
+        LoanApplicationBatchResponseDto response = service.processLoanApplicationBatch(requests);
+
+        log.info("Batch decision complete: accepted={}, rejected={}",
+                response.getAccepted(), response.getRejected());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Reports whether an application's records have been written yet.
+     * Always PERSISTED unless write-behind mode is enabled.
+     */
+    @GetMapping("/{applicationId}/status")
+    public ResponseEntity<PersistenceStatusDto> status(@PathVariable String applicationId) {
+        return ResponseEntity.ok(PersistenceStatusDto.builder()
+                .applicationId(applicationId)
+                .status(service.persistenceStatus(applicationId).name())
+                .build());
+    }
+
+    /**
+     * Returns the full repayment schedule for an approved offer.
+     */
+    @GetMapping("/offers/{offerId}/schedule")
+    public ResponseEntity<AmortizationScheduleDto> schedule(@PathVariable Long offerId) {
+        return ResponseEntity.ok(scheduleService.scheduleForOffer(offerId));
+    }
 }
@@ -0,0 +1,59 @@
+package com.example.loanorigination.controller;
+
+import com.example.loanorigination.dto.ErrorResponseDto;
+import com.example.loanorigination.dto.LoanApplicationRequestDto;
+import com.example.loanorigination.exception.CreditBureauUnavailableException;
+import com.example.loanorigination.service.ReactiveLoanDecisionService;
+import com.example.loanorigination.validation.LoanApplicationRequestValidator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * WebFlux handler for {@code POST /api/loan-applications/apply} in the {@code reactive} profile.
+ * Requests, responses and error bodies match {@link LoanApplicationController#apply}. Idempotency keys and the
+ * write-behind mode are only available on the MVC path.
+ */
+@Slf4j
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class LoanApplicationHandler {
+
+    private final ReactiveLoanDecisionService service;
+    private final LoanApplicationRequestValidator validator;
+
+    public Mono<ServerResponse> apply(ServerRequest request) {
+        return request.bodyToMono(LoanApplicationRequestDto.class)
+                .flatMap(application -> {
+                    Map<String, String> errors = validator.errors(application);
+                    if (!errors.isEmpty()) {
+                        return ServerResponse.badRequest().bodyValue(errors);
+                    }
+                    return service.processLoanApplication(application)
+                            .flatMap(response -> ServerResponse.ok().bodyValue(response));
+                })
+                .switchIfEmpty(Mono.defer(() -> ServerResponse.badRequest()
+                        .bodyValue(Map.of("request", "Application must not be null"))))
+                .onErrorResume(CreditBureauUnavailableException.class, e -> {
+                    log.warn("Credit bureau unavailable at {}: {}", request.path(), e.getMessage());
+                    return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
+                            .header(HttpHeaders.RETRY_AFTER, "5")
+                            .bodyValue(new ErrorResponseDto(
+                                    HttpStatus.SERVICE_UNAVAILABLE.value(),
+                                    HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+                                    "Credit data is temporarily unavailable. Please retry shortly.",
+                                    request.path(),
+                                    LocalDateTime.now()));
+                });
+    }
+}
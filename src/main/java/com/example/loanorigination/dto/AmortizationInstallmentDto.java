@@ -0,0 +1,20 @@
+package com.example.loanorigination.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AmortizationInstallmentDto {
+    private int month;
+    private BigDecimal payment;
+    private BigDecimal principal;
+    private BigDecimal interest;
+    private BigDecimal remainingBalance;
+}
@@ -0,0 +1,23 @@
+package com.example.loanorigination.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AmortizationScheduleDto {
+    private Long offerId;
+    private BigDecimal totalLoanAmount;
+    private BigDecimal interestRate;
+    private int termMonths;
+    private BigDecimal monthlyPayment;
+    private BigDecimal totalInterest;
+    private List<AmortizationInstallmentDto> installments;
+}
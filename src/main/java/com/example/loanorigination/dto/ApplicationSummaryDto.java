@@ -0,0 +1,16 @@
+package com.example.loanorigination.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read-side projection of an application and its decision, selected directly by JPQL.
+ */
+public record ApplicationSummaryDto(
+        Long id,
+        String applicationId,
+        BigDecimal requestedAmount,
+        Integer creditLines,
+        String decision,
+        LocalDateTime createdAt) {
+}
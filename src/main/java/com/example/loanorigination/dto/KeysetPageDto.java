@@ -0,0 +1,18 @@
+package com.example.loanorigination.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KeysetPageDto<T> {
+    private List<T> items;
+    // Pass back as ?after= to fetch the next page; null on the last page
+    private String nextCursor;
+}
@@ -0,0 +1,18 @@
+package com.example.loanorigination.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LoanApplicationBatchItemDto {
+    private int index;
+    private LoanApplicationResponseDto result;
+    private Map<String, String> errors;
+}
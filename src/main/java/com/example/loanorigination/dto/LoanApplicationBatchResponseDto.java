@@ -0,0 +1,18 @@
+package com.example.loanorigination.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LoanApplicationBatchResponseDto {
+    private int accepted;
+    private int rejected;
+    private List<LoanApplicationBatchItemDto> results;
+}
@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Builder
 public class LoanApplicationResponseDto {
+    private String applicationId;
     private String decision;
     private String reason;
     private LoanOfferDto offer;
@@ -0,0 +1,19 @@
+package com.example.loanorigination.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read-side projection of an offer, selected directly by JPQL.
+ */
+public record OfferSummaryDto(
+        Long id,
+        String applicationId,
+        BigDecimal requestedAmount,
+        String decision,
+        String reason,
+        BigDecimal interestRate,
+        Integer termMonths,
+        BigDecimal monthlyPayment,
+        LocalDateTime createdAt) {
+}
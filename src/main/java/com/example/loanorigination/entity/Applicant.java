@@ -7,23 +7,37 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "applicant")
-@Data
+@Table(name = "applicant", indexes = {
+        @Index(name = "idx_applicant_ssn_hash", columnList = "ssn_hash", unique = true)
+})
+@NamedEntityGraph(name = Applicant.WITH_APPLICATIONS, attributeNodes = @NamedAttributeNode("applications"))
+// No @Data: generated equals/hashCode/toString would walk the lazy applications collection
+@Getter
+@Setter
+@ToString(onlyExplicitlyIncluded = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Applicant {
 
+    public static final String WITH_APPLICATIONS = "Applicant.withApplications";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @ToString.Include
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "applicant_seq")
+    @SequenceGenerator(name = "applicant_seq", sequenceName = "applicant_seq", allocationSize = 50)
     private Long id;
 
     private String name;
     private String address;
+    @Column(unique = true)
     private String email;
     private String phone;
     private String ssn;
 
+    @Column(name = "ssn_hash", length = 64)
+    private String ssnHash;
+
     @OneToMany(mappedBy = "applicant", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<LoanApplication> applications = new ArrayList<>();
@@ -0,0 +1,43 @@
+package com.example.loanorigination.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "idempotency_key", indexes = {
+        @Index(name = "idx_idempotency_key_created_at", columnList = "created_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "idempotency_key", length = 128)
+    private String idempotencyKey;
+
+    // Null while the request that reserved the key is still running
+    @Column(name = "response_body", length = 4000)
+    private String responseBody;
+
+    // SHA-256 of the request body; null for keys stored before V12
+    @Column(name = "request_hash", length = 64)
+    private String requestHash;
+
+    // Identifies the request holding the reservation
+    @Column(name = "owner_token", length = 36)
+    private String ownerToken;
+
+    // Reset when a stale reservation is taken over
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
+    }
+}
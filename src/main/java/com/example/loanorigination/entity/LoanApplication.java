@@ -4,20 +4,33 @@ import jakarta.persistence.*;
 import lombok.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Entity
-@Table(name = "loan_application")
-@Data
+@Table(name = "loan_application", indexes = {
+        @Index(name = "idx_loan_application_reference", columnList = "reference", unique = true),
+        @Index(name = "idx_loan_application_applicant_created", columnList = "applicant_id, created_at DESC, id DESC"),
+        @Index(name = "idx_loan_application_created", columnList = "created_at, id")
+})
+@Getter
+@Setter
+@ToString(onlyExplicitlyIncluded = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class LoanApplication {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "loan_application_seq")
+    @SequenceGenerator(name = "loan_application_seq", sequenceName = "loan_application_seq", allocationSize = 50)
+    @ToString.Include
     private Long id;
 
-    @ManyToOne
+    // Public id handed to clients; assigned at decision time so it is known before the row is written
+    @Column(name = "reference", length = 36, updatable = false)
+    private String reference;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "applicant_id", nullable = false)
     private Applicant applicant;
 
@@ -27,14 +40,16 @@ public class LoanApplication {
     @Column(name = "credit_lines")
     private Integer creditLines;
 
-    @OneToOne(mappedBy = "application", cascade = CascadeType.ALL)
-    private LoanOffer offer;
-
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @PrePersist
     protected void onCreate() {
-        this.createdAt = LocalDateTime.now();
+        if (this.reference == null) {
+            this.reference = UUID.randomUUID().toString();
+        }
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
     }
 }
@@ -6,33 +6,45 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "loan_offer")
-@Data
+@Table(name = "loan_offer", indexes = {
+        @Index(name = "idx_loan_offer_application", columnList = "application_id"),
+        @Index(name = "idx_loan_offer_created", columnList = "created_at DESC, id DESC")
+})
+@Getter
+@Setter
+@ToString(onlyExplicitlyIncluded = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class LoanOffer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "loan_offer_seq")
+    @SequenceGenerator(name = "loan_offer_seq", sequenceName = "loan_offer_seq", allocationSize = 50)
+    @ToString.Include
     private Long id;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "application_id", nullable = false)
     private LoanApplication application;
     private BigDecimal requestedAmount;
+    @ToString.Include
     private String decision;
     private String reason;
     private BigDecimal interestRate;
     private Integer termMonths;
     private BigDecimal monthlyPayment;
+    @Column(name = "rules_version", length = 64)
+    private String rulesVersion;
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @PrePersist
     protected void onCreate() {
-        this.createdAt = LocalDateTime.now();
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
     }
 }
 
@@ -0,0 +1,16 @@
+package com.example.loanorigination.exception;
+
+/**
+ * Thrown when credit data could not be obtained from the bureau, or its circuit breaker is open;
+ * mapped to 503 by {@link GlobalExceptionHandler}.
+ */
+public class CreditBureauUnavailableException extends RuntimeException {
+
+    public CreditBureauUnavailableException(String message) {
+        super(message);
+    }
+
+    public CreditBureauUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,6 +1,9 @@
 package com.example.loanorigination.exception;
 
 import com.example.loanorigination.dto.ErrorResponseDto;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -18,6 +21,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.web.context.request.WebRequest;
 
 @RestControllerAdvice
+@Profile("!reactive")
 public class GlobalExceptionHandler {
 
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
@@ -36,6 +40,115 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errors);
     }
 
+    /**
+     * Handles lookups for records that do not exist.
+     */
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponseDto> handleNotFound(ResourceNotFoundException ex, WebRequest request) {
+        ErrorResponseDto response = new ErrorResponseDto(
+                HttpStatus.NOT_FOUND.value(),
+                HttpStatus.NOT_FOUND.getReasonPhrase(),
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", ""),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    }
+
+    /**
+     * Handles requests rejected by service-level checks, such as oversized batches. Other
+     * {@link IllegalArgumentException}s are internal errors and fall through to {@link #handleGenericError}.
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponseDto> handleInvalidRequest(InvalidRequestException ex, WebRequest request) {
+        ErrorResponseDto response = new ErrorResponseDto(
+                HttpStatus.BAD_REQUEST.value(),
+                HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", ""),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.badRequest().body(response);
+    }
+
+    /**
+     * Handles an Idempotency-Key sent again with a different body; the stored decision belongs to the first one.
+     */
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<ErrorResponseDto> handleIdempotencyKeyReused(IdempotencyKeyReusedException ex,
+                                                                       WebRequest request) {
+        ErrorResponseDto response = new ErrorResponseDto(
+                HttpStatus.UNPROCESSABLE_ENTITY.value(),
+                HttpStatus.UNPROCESSABLE_ENTITY.getReasonPhrase(),
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", ""),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(response);
+    }
+
+    /**
+     * Handles unique-constraint conflicts that could not be resolved, such as racing bulk inserts.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponseDto> handleConflict(DataIntegrityViolationException ex, WebRequest request) {
+        log.warn("Data conflict at {}: {}", request.getDescription(false), ex.getMostSpecificCause().getMessage());
+
+        ErrorResponseDto response = new ErrorResponseDto(
+                HttpStatus.CONFLICT.value(),
+                HttpStatus.CONFLICT.getReasonPhrase(),
+                "The request conflicts with data written concurrently. Please retry.",
+                request.getDescription(false).replace("uri=", ""),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    /**
+     * Handles requests shed by the decision concurrency limit so clients can back off and retry.
+     */
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ErrorResponseDto> handleServiceBusy(ServiceBusyException ex, WebRequest request) {
+        log.warn("Rejected request at {}: {}", request.getDescription(false), ex.getMessage());
+
+        ErrorResponseDto response = new ErrorResponseDto(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", ""),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
+    /**
+     * Handles applications that could not be decided because the credit bureau is failing or unreachable.
+     */
+    @ExceptionHandler(CreditBureauUnavailableException.class)
+    public ResponseEntity<ErrorResponseDto> handleBureauUnavailable(CreditBureauUnavailableException ex,
+                                                                    WebRequest request) {
+        log.warn("Credit bureau unavailable at {}: {}", request.getDescription(false), ex.getMessage());
+
+        ErrorResponseDto response = new ErrorResponseDto(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+                "Credit data is temporarily unavailable. Please retry shortly.",
+                request.getDescription(false).replace("uri=", ""),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(response);
+    }
+
     /**
      * Handles all uncaught exceptions to prevent stack traces from leaking to clients.
      */
@@ -0,0 +1,13 @@
+package com.example.loanorigination.exception;
+
+/**
+ * Thrown when a request passes bean validation but is rejected by a service-level check, such as an oversized
+ * batch or a bad page cursor; mapped to 400 by {@link GlobalExceptionHandler}. Other
+ * {@link IllegalArgumentException}s are treated as internal errors.
+ */
+public class InvalidRequestException extends IllegalArgumentException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.loanorigination.exception;
+
+/**
+ * Thrown when a requested record does not exist; mapped to 404 by {@link GlobalExceptionHandler}.
+ */
+public class ResourceNotFoundException extends RuntimeException {
+
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.loanorigination.exception;
+
+/**
+ * Thrown when a request could not get a decision slot in time; mapped to 503 by {@link GlobalExceptionHandler}.
+ */
+public class ServiceBusyException extends RuntimeException {
+
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
@@ -19,6 +19,7 @@ public interface LoanMapper {
             @Mapping(target = "id", ignore = true),
             @Mapping(target = "createdAt", expression = "java(java.time.LocalDateTime.now())"),
             @Mapping(target = "applications", ignore = true),
+            @Mapping(target = "ssnHash", ignore = true),
             @Mapping(target = "ssn", expression = "java(cryptoUtil.encrypt(req.getSsn()))")
     })
     Applicant toApplicant(@Context CryptoUtil cryptoUtil, LoanApplicationRequestDto req);
@@ -27,9 +28,9 @@ public interface LoanMapper {
     // 🔹 DTO → LoanApplication
     @Mappings({
             @Mapping(target = "id", ignore = true),
+            @Mapping(target = "reference", expression = "java(java.util.UUID.randomUUID().toString())"),
             @Mapping(target = "applicant", source = "applicant"),
             @Mapping(target = "creditLines", ignore = true),
-            @Mapping(target = "offer", ignore = true),
             @Mapping(target = "createdAt", expression = "java(java.time.LocalDateTime.now())")
     })
     LoanApplication toLoanApplication(LoanApplicationRequestDto req, Applicant applicant);
@@ -1,9 +1,28 @@
 package com.example.loanorigination.repository;
 
 import com.example.loanorigination.entity.Applicant;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ApplicantRepository extends JpaRepository<Applicant, Long> {
     Optional<Applicant> findByEmail(String email);
+
+    Optional<Applicant> findFirstBySsnHashOrEmail(String ssnHash, String email);
+
+    List<Applicant> findBySsnHashInOrEmailIn(Collection<String> ssnHashes, Collection<String> emails);
+
+    boolean existsBySsnHash(String ssnHash);
+
+    List<Applicant> findBySsnHashIsNullAndIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // Applicants with their application history in a single join
+    @EntityGraph(Applicant.WITH_APPLICATIONS)
+    Optional<Applicant> findWithApplicationsById(Long id);
+
+    @EntityGraph(Applicant.WITH_APPLICATIONS)
+    List<Applicant> findWithApplicationsByIdIn(Collection<Long> ids);
 }
@@ -0,0 +1,63 @@
+package com.example.loanorigination.repository;
+
+import com.example.loanorigination.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.createdAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.idempotencyKey = :key and r.createdAt < :cutoff")
+    int deleteIfOlderThan(@Param("key") String key, @Param("cutoff") LocalDateTime cutoff);
+
+    // A plain insert, so an existing key fails on the primary key instead of being merged over
+    @Transactional
+    @Modifying
+    @Query(value = """
+            insert into idempotency_key (idempotency_key, request_hash, owner_token, created_at)
+            values (:key, :requestHash, :owner, :createdAt)
+            """, nativeQuery = true)
+    int reserve(@Param("key") String key,
+                @Param("requestHash") String requestHash,
+                @Param("owner") String owner,
+                @Param("createdAt") LocalDateTime createdAt);
+
+    // Joins the caller's transaction, so the response commits or rolls back with the application
+    @Transactional
+    @Modifying
+    @Query("""
+            update IdempotencyRecord r set r.responseBody = :body
+            where r.idempotencyKey = :key and r.ownerToken = :owner and r.responseBody is null
+            """)
+    int complete(@Param("key") String key, @Param("owner") String owner, @Param("body") String body);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update IdempotencyRecord r set r.ownerToken = :owner, r.createdAt = :now
+            where r.idempotencyKey = :key and r.ownerToken = :previous and r.responseBody is null
+            """)
+    int takeOver(@Param("key") String key,
+                 @Param("previous") String previous,
+                 @Param("owner") String owner,
+                 @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            delete from IdempotencyRecord r
+            where r.idempotencyKey = :key and r.ownerToken = :owner and r.responseBody is null
+            """)
+    int release(@Param("key") String key, @Param("owner") String owner);
+}
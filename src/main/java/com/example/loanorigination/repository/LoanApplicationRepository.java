@@ -1,6 +1,48 @@
 package com.example.loanorigination.repository;
 
+import com.example.loanorigination.dto.ApplicationSummaryDto;
 import com.example.loanorigination.entity.LoanApplication;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface LoanApplicationRepository extends JpaRepository<LoanApplication, Long> {}
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface LoanApplicationRepository extends JpaRepository<LoanApplication, Long> {
+
+    boolean existsByReference(String reference);
+
+    @Query("select a.reference from LoanApplication a where a.reference in :references")
+    Set<String> findExistingReferences(@Param("references") Collection<String> references);
+
+    // Newest first; keyset on (created_at, id), served by idx_loan_application_applicant_created.
+    // The since bound on both sides lets PostgreSQL prune the monthly partitions before it
+    @Query("""
+            select new com.example.loanorigination.dto.ApplicationSummaryDto(
+                a.id, a.reference, a.requestedAmount, a.creditLines, o.decision, a.createdAt)
+            from LoanApplication a left join LoanOffer o on o.application = a and o.createdAt >= :since
+            where a.applicant.id = :applicantId and a.createdAt >= :since
+            order by a.createdAt desc, a.id desc
+            """)
+    List<ApplicationSummaryDto> findSummariesByApplicant(@Param("applicantId") Long applicantId,
+                                                         @Param("since") LocalDateTime since,
+                                                         Limit limit);
+
+    @Query("""
+            select new com.example.loanorigination.dto.ApplicationSummaryDto(
+                a.id, a.reference, a.requestedAmount, a.creditLines, o.decision, a.createdAt)
+            from LoanApplication a left join LoanOffer o on o.application = a and o.createdAt >= :since
+            where a.applicant.id = :applicantId and a.createdAt >= :since
+              and (a.createdAt < :createdAt or (a.createdAt = :createdAt and a.id < :id))
+            order by a.createdAt desc, a.id desc
+            """)
+    List<ApplicationSummaryDto> findSummariesByApplicantBefore(@Param("applicantId") Long applicantId,
+                                                               @Param("since") LocalDateTime since,
+                                                               @Param("createdAt") LocalDateTime createdAt,
+                                                               @Param("id") Long id,
+                                                               Limit limit);
+}
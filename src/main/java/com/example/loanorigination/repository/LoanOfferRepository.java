@@ -1,6 +1,52 @@
 package com.example.loanorigination.repository;
 
+import com.example.loanorigination.dto.OfferSummaryDto;
 import com.example.loanorigination.entity.LoanOffer;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface LoanOfferRepository extends JpaRepository<LoanOffer, Long> {}
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface LoanOfferRepository extends JpaRepository<LoanOffer, Long> {
+
+    // An applicant's full decision history, newest first, in one query
+    @Query("""
+            select o from LoanOffer o join fetch o.application a join fetch a.applicant
+            where a.applicant.id = :applicantId
+            order by o.createdAt desc, o.id desc
+            """)
+    List<LoanOffer> findHistoryByApplicantId(@Param("applicantId") Long applicantId);
+
+    // Newest first; keyset on (created_at, id), reached through idx_loan_application_applicant_created
+    // and idx_loan_offer_application. The since bound on both tables lets PostgreSQL prune the monthly
+    // partitions before it
+    @Query("""
+            select new com.example.loanorigination.dto.OfferSummaryDto(
+                o.id, a.reference, o.requestedAmount, o.decision, o.reason,
+                o.interestRate, o.termMonths, o.monthlyPayment, o.createdAt)
+            from LoanOffer o join o.application a
+            where a.applicant.id = :applicantId and a.createdAt >= :since and o.createdAt >= :since
+            order by o.createdAt desc, o.id desc
+            """)
+    List<OfferSummaryDto> findSummariesByApplicant(@Param("applicantId") Long applicantId,
+                                                   @Param("since") LocalDateTime since,
+                                                   Limit limit);
+
+    @Query("""
+            select new com.example.loanorigination.dto.OfferSummaryDto(
+                o.id, a.reference, o.requestedAmount, o.decision, o.reason,
+                o.interestRate, o.termMonths, o.monthlyPayment, o.createdAt)
+            from LoanOffer o join o.application a
+            where a.applicant.id = :applicantId and a.createdAt >= :since and o.createdAt >= :since
+              and (o.createdAt < :createdAt or (o.createdAt = :createdAt and o.id < :id))
+            order by o.createdAt desc, o.id desc
+            """)
+    List<OfferSummaryDto> findSummariesByApplicantBefore(@Param("applicantId") Long applicantId,
+                                                         @Param("since") LocalDateTime since,
+                                                         @Param("createdAt") LocalDateTime createdAt,
+                                                         @Param("id") Long id,
+                                                         Limit limit);
+}
@@ -0,0 +1,23 @@
+package com.example.loanorigination.repository.reactive;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC mapping of the {@code applicant} table, used by the reactive apply pipeline.
+ * Ids are assigned by the caller from {@code applicant_seq}, so rows are written with
+ * {@code R2dbcEntityTemplate.insert}.
+ */
+@Table("applicant")
+public record ApplicantRow(
+        @Id Long id,
+        String name,
+        String address,
+        String email,
+        String phone,
+        String ssn,
+        String ssnHash,
+        LocalDateTime createdAt) {
+}
@@ -0,0 +1,20 @@
+package com.example.loanorigination.repository.reactive;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC mapping of the {@code loan_application} table; see {@link ApplicantRow}.
+ */
+@Table("loan_application")
+public record LoanApplicationRow(
+        @Id Long id,
+        String reference,
+        Long applicantId,
+        BigDecimal requestedAmount,
+        Integer creditLines,
+        LocalDateTime createdAt) {
+}
@@ -0,0 +1,24 @@
+package com.example.loanorigination.repository.reactive;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC mapping of the {@code loan_offer} table; see {@link ApplicantRow}.
+ */
+@Table("loan_offer")
+public record LoanOfferRow(
+        @Id Long id,
+        Long applicationId,
+        BigDecimal requestedAmount,
+        String decision,
+        String reason,
+        BigDecimal interestRate,
+        Integer termMonths,
+        BigDecimal monthlyPayment,
+        String rulesVersion,
+        LocalDateTime createdAt) {
+}
@@ -0,0 +1,9 @@
+package com.example.loanorigination.repository.reactive;
+
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveApplicantRepository extends R2dbcRepository<ApplicantRow, Long> {
+
+    Mono<ApplicantRow> findFirstBySsnHashOrEmail(String ssnHash, String email);
+}
@@ -0,0 +1,9 @@
+package com.example.loanorigination.repository.reactive;
+
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveLoanApplicationRepository extends R2dbcRepository<LoanApplicationRow, Long> {
+
+    Mono<LoanApplicationRow> findByReference(String reference);
+}
@@ -0,0 +1,9 @@
+package com.example.loanorigination.repository.reactive;
+
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveLoanOfferRepository extends R2dbcRepository<LoanOfferRow, Long> {
+
+    Mono<LoanOfferRow> findByApplicationId(Long applicationId);
+}
@@ -0,0 +1,19 @@
+package com.example.loanorigination.service;
+
+/**
+ * Installment schedule in cents, stored as parallel arrays indexed by month (0-based).
+ */
+public record AmortizationSchedule(RateTier tier,
+                                   long monthlyPaymentCents,
+                                   long[] principalCents,
+                                   long[] interestCents,
+                                   long[] remainingBalanceCents) {
+
+    public int installments() {
+        return principalCents.length;
+    }
+
+    public long paymentCents(int month) {
+        return principalCents[month] + interestCents[month];
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.loanorigination.service;
+
+import com.example.loanorigination.dto.AmortizationInstallmentDto;
+import com.example.loanorigination.dto.AmortizationScheduleDto;
+import com.example.loanorigination.entity.LoanOffer;
+import com.example.loanorigination.exception.InvalidRequestException;
+import com.example.loanorigination.exception.ResourceNotFoundException;
+import com.example.loanorigination.repository.LoanOfferRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AmortizationScheduleService {
+
+    private final LoanOfferRepository loanOfferRepository;
+    private final AmortizationTable amortizationTable;
+
+    /**
+     * Builds the full repayment schedule for an approved offer from the cached amortization factors.
+     */
+    @Transactional(readOnly = true)
+    public AmortizationScheduleDto scheduleForOffer(Long offerId) {
+        LoanOffer offer = loanOfferRepository.findById(offerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Loan offer " + offerId + " not found"));
+
+        if (!LoanDecision.APPROVED.equals(offer.getDecision())) {
+            throw new InvalidRequestException("Loan offer " + offerId + " was not approved");
+        }
+
+        RateTier tier = amortizationTable.findTier(offer.getInterestRate(), offer.getTermMonths())
+                .orElseGet(() -> RateTier.of(offer.getInterestRate(), offer.getTermMonths()));
+        long principalCents = offer.getRequestedAmount().movePointRight(2)
+                .setScale(0, RoundingMode.HALF_UP).longValueExact();
+
+        AmortizationSchedule schedule = amortizationTable.schedule(principalCents, tier);
+
+        List<AmortizationInstallmentDto> installments = new ArrayList<>(schedule.installments());
+        long totalInterest = 0;
+        for (int month = 0; month < schedule.installments(); month++) {
+            totalInterest += schedule.interestCents()[month];
+            installments.add(AmortizationInstallmentDto.builder()
+                    .month(month + 1)
+                    .payment(cents(schedule.paymentCents(month)))
+                    .principal(cents(schedule.principalCents()[month]))
+                    .interest(cents(schedule.interestCents()[month]))
+                    .remainingBalance(cents(schedule.remainingBalanceCents()[month]))
+                    .build());
+        }
+
+        return AmortizationScheduleDto.builder()
+                .offerId(offer.getId())
+                .totalLoanAmount(offer.getRequestedAmount())
+                .interestRate(offer.getInterestRate())
+                .termMonths(offer.getTermMonths())
+                .monthlyPayment(cents(schedule.monthlyPaymentCents()))
+                .totalInterest(cents(totalInterest))
+                .installments(installments)
+                .build();
+    }
+
+    private static BigDecimal cents(long value) {
+        return BigDecimal.valueOf(value, 2);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.loanorigination.service;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Cache of amortization factors keyed by rate tier (annual rate, term).
+ * The factor r / (1 - (1 + r)^-n) is computed once per tier, so a monthly payment is a single
+ * multiply on the principal. Built at startup from the active tiers; call {@link #refresh}
+ * whenever the tiers change. Reads are lock-free against an immutable snapshot.
+ */
+public class AmortizationTable {
+
+    private volatile Map<RateTier, Double> factors;
+
+    public AmortizationTable(Collection<RateTier> tiers) {
+        refresh(tiers);
+    }
+
+    public void refresh(Collection<RateTier> tiers) {
+        Map<RateTier, Double> rebuilt = new HashMap<>();
+        for (RateTier tier : tiers) {
+            rebuilt.put(tier, computeFactor(tier));
+        }
+        this.factors = Map.copyOf(rebuilt);
+    }
+
+    public long monthlyPaymentCents(long principalCents, RateTier tier) {
+        Double factor = factors.get(tier);
+        double f = factor != null ? factor : computeFactor(tier);
+        return Math.round(principalCents * f);
+    }
+
+    /**
+     * Finds the cached tier for a stored offer, comparing rates by value so 0.1 and 0.10 match.
+     */
+    public Optional<RateTier> findTier(BigDecimal annualRate, int termMonths) {
+        for (RateTier tier : factors.keySet()) {
+            if (tier.termMonths() == termMonths && tier.annualRate().compareTo(annualRate) == 0) {
+                return Optional.of(tier);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Builds the full installment schedule for a principal in one pass.
+     * Uses the cached payment; each month's interest is taken on the running balance,
+     * and the final installment absorbs rounding so the balance ends at zero.
+     */
+    public AmortizationSchedule schedule(long principalCents, RateTier tier) {
+        int term = tier.termMonths();
+        double r = tier.monthlyRate();
+        long payment = monthlyPaymentCents(principalCents, tier);
+
+        long[] principal = new long[term];
+        long[] interest = new long[term];
+        long[] balance = new long[term];
+
+        long remaining = principalCents;
+        for (int month = 0; month < term; month++) {
+            long monthInterest = Math.round(remaining * r);
+            long monthPrincipal = month == term - 1 ? remaining : Math.min(payment - monthInterest, remaining);
+            remaining -= monthPrincipal;
+
+            interest[month] = monthInterest;
+            principal[month] = monthPrincipal;
+            balance[month] = remaining;
+        }
+
+        return new AmortizationSchedule(tier, payment, principal, interest, balance);
+    }
+
+    private static double computeFactor(RateTier tier) {
+        double r = tier.monthlyRate();
+        return r / (1 - Math.pow(1 + r, -tier.termMonths()));
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.loanorigination.service;
+
+import com.example.loanorigination.dto.LoanApplicationRequestDto;
+import com.example.loanorigination.entity.Applicant;
+import com.example.loanorigination.mapper.LoanMapper;
+import com.example.loanorigination.repository.ApplicantRepository;
+import com.example.loanorigination.util.BlindIndexUtil;
+import com.example.loanorigination.util.CryptoUtil;
+import com.example.loanorigination.util.DataMaskingUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * Finds or creates the applicant for an application and returns its id.
+ * Repeat applicants are answered from a bounded, TTL-evicting email → id cache, so callers can attach
+ * them with {@code getReferenceById} instead of querying. New applicants are inserted in their own short
+ * transaction; if a concurrent request for the same email or SSN wins the insert, the unique-constraint
+ * violation is caught and the winner's row is read back instead of failing the request.
+ * Must be called outside the caller's write transaction.
+ */
+@Slf4j
+@Component
+public class ApplicantResolver {
+
+    static final String CACHE_NAME = "applicantIdsByEmail";
+
+    private final ApplicantRepository applicantRepository;
+    private final LoanMapper loanMapper;
+    private final CryptoUtil cryptoUtil;
+    private final BlindIndexUtil blindIndexUtil;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<String, Long> applicantIdsByEmail;
+
+    public ApplicantResolver(ApplicantRepository applicantRepository,
+                             LoanMapper loanMapper,
+                             CryptoUtil cryptoUtil,
+                             BlindIndexUtil blindIndexUtil,
+                             TransactionTemplate transactionTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${loan.applicant-cache.max-size:100000}") long maxSize,
+                             @Value("${loan.applicant-cache.ttl:10m}") Duration ttl) {
+        this.applicantRepository = applicantRepository;
+        this.loanMapper = loanMapper;
+        this.cryptoUtil = cryptoUtil;
+        this.blindIndexUtil = blindIndexUtil;
+        this.transactionTemplate = transactionTemplate;
+        this.applicantIdsByEmail = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, applicantIdsByEmail, CACHE_NAME);
+    }
+
+    public long resolveId(LoanApplicationRequestDto req) {
+        Long cachedId = applicantIdsByEmail.getIfPresent(req.getEmail());
+        if (cachedId != null) {
+            return cachedId;
+        }
+
+        String ssnHash = blindIndexUtil.hashSsn(req.getSsn());
+        Applicant applicant = applicantRepository
+                .findFirstBySsnHashOrEmail(ssnHash, req.getEmail())
+                .orElseGet(() -> insertOrFetch(req, ssnHash));
+
+        applicantIdsByEmail.put(req.getEmail(), applicant.getId());
+        return applicant.getId();
+    }
+
+    public Applicant newApplicant(LoanApplicationRequestDto req, String ssnHash) {
+        Applicant applicant = loanMapper.toApplicant(cryptoUtil, req);
+        applicant.setSsnHash(ssnHash);
+        return applicant;
+    }
+
+    private Applicant insertOrFetch(LoanApplicationRequestDto req, String ssnHash) {
+        try {
+            return transactionTemplate.execute(status -> applicantRepository.save(newApplicant(req, ssnHash)));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Applicant {} was created concurrently; using existing row",
+                    DataMaskingUtil.maskEmail(req.getEmail()));
+            return applicantRepository.findFirstBySsnHashOrEmail(ssnHash, req.getEmail()).orElseThrow(() -> e);
+        }
+    }
+}
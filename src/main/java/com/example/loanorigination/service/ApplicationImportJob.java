@@ -0,0 +1,414 @@
+package com.example.loanorigination.service;
+
+import com.example.loanorigination.dto.LoanApplicationBatchItemDto;
+import com.example.loanorigination.dto.LoanApplicationBatchResponseDto;
+import com.example.loanorigination.dto.LoanApplicationRequestDto;
+import com.example.loanorigination.repository.LoanApplicationRepository;
+import com.example.loanorigination.util.CsvUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Imports partner files of applications (CSV with a header row, or NDJSON) through the batch decision path.
+ * The file is read as a stream and cut into chunks of {@code loan.import.chunk-size} records; up to
+ * {@code loan.import.parallelism} chunks are decided and written at once, each through
+ * {@link LoanDecisionService#processLoanApplicationBatch(List, List)} in its own transaction.
+ * <p>
+ * Chunks are completed in file order: each completed chunk appends one NDJSON result line per record to the
+ * result file and then records its last line number in a checkpoint file next to it. A rerun with the same
+ * input and result file resumes after the checkpoint. Every record is stored under a reference derived from
+ * the job and its line number, so a chunk that was written but not yet checkpointed is reported as
+ * {@code ALREADY_IMPORTED} on resume instead of being inserted twice.
+ */
+@Slf4j
+@Component
+@RegisterReflectionForBinding({LoanApplicationRequestDto.class, ApplicationImportJob.ResultLine.class})
+public class ApplicationImportJob {
+
+    public record Summary(long records, long accepted, long rejected, long alreadyImported, Duration elapsed) {
+
+        public double recordsPerSecond() {
+            double seconds = elapsed.toNanos() / 1_000_000_000.0;
+            return seconds > 0 ? records / seconds : records;
+        }
+    }
+
+    record ResultLine(long line, String status, String applicationId, String decision, String reason,
+                      Map<String, String> errors) {
+    }
+
+    private record Item(long line, String reference, LoanApplicationRequestDto request, Map<String, String> errors) {
+    }
+
+    private record Chunk(long lastLine, List<Item> items) {
+    }
+
+    private static final List<String> CSV_FIELDS =
+            List.of("name", "address", "email", "phone", "ssn", "requestedamount");
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final LoanDecisionService decisionService;
+    private final LoanApplicationRepository loanApplicationRepository;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final int parallelism;
+
+    public ApplicationImportJob(LoanDecisionService decisionService,
+                                LoanApplicationRepository loanApplicationRepository,
+                                ObjectMapper objectMapper,
+                                @Value("${loan.import.chunk-size:1000}") int chunkSize,
+                                @Value("${loan.import.parallelism:4}") int parallelism) {
+        if (chunkSize < 1 || chunkSize > LoanDecisionService.MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException(
+                    "loan.import.chunk-size must be between 1 and " + LoanDecisionService.MAX_BATCH_SIZE);
+        }
+        this.decisionService = decisionService;
+        this.loanApplicationRepository = loanApplicationRepository;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    public Summary run(Path input, DataFileFormat format, Path resultFile) {
+        Path checkpointFile = resultFile.resolveSibling(resultFile.getFileName() + ".checkpoint");
+        Checkpoint checkpoint = Checkpoint.load(checkpointFile, input);
+        if (checkpoint.line > 0) {
+            log.info("Resuming import of {} after line {}", input, checkpoint.line);
+        }
+
+        long started = System.nanoTime();
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism,
+                task -> new Thread(task, "import-worker-" + threads.incrementAndGet()));
+        Progress progress = new Progress(started);
+
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8);
+             FileChannel results = FileChannel.open(resultFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            // Drop result lines written after the last checkpoint; those chunks are redone
+            results.truncate(checkpoint.resultBytes);
+            results.position(checkpoint.resultBytes);
+
+            long lineNumber = 0;
+            int[] columns = null;
+            if (format == DataFileFormat.CSV) {
+                String header = reader.readLine();
+                lineNumber++;
+                columns = csvColumns(header);
+            }
+
+            Deque<Future<List<ResultLine>>> inFlight = new ArrayDeque<>();
+            Deque<Long> inFlightLastLines = new ArrayDeque<>();
+            List<Item> items = new ArrayList<>(chunkSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber <= checkpoint.line || line.isBlank()) {
+                    continue;
+                }
+                items.add(parse(lineNumber, line, format, columns, checkpoint.jobId));
+                if (items.size() == chunkSize) {
+                    submit(new Chunk(lineNumber, items), workers, inFlight, inFlightLastLines);
+                    items = new ArrayList<>(chunkSize);
+                    // Bounded look-ahead keeps memory flat regardless of file size
+                    while (inFlight.size() >= parallelism * 2) {
+                        complete(inFlight, inFlightLastLines, results, checkpoint, checkpointFile, progress);
+                    }
+                }
+            }
+            if (!items.isEmpty()) {
+                submit(new Chunk(lineNumber, items), workers, inFlight, inFlightLastLines);
+            }
+            while (!inFlight.isEmpty()) {
+                complete(inFlight, inFlightLastLines, results, checkpoint, checkpointFile, progress);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error importing " + input, e);
+        } finally {
+            workers.shutdownNow();
+        }
+
+        Summary summary = progress.summary();
+        log.info("Imported {} records from {} in {} ms ({} records/s): accepted={}, rejected={}, alreadyImported={}",
+                summary.records(), input, summary.elapsed().toMillis(), Math.round(summary.recordsPerSecond()),
+                summary.accepted(), summary.rejected(), summary.alreadyImported());
+        return summary;
+    }
+
+    private void submit(Chunk chunk, ExecutorService workers,
+                        Deque<Future<List<ResultLine>>> inFlight, Deque<Long> inFlightLastLines) {
+        inFlight.add(workers.submit(() -> process(chunk)));
+        inFlightLastLines.add(chunk.lastLine());
+    }
+
+    private void complete(Deque<Future<List<ResultLine>>> inFlight, Deque<Long> inFlightLastLines,
+                          FileChannel results, Checkpoint checkpoint, Path checkpointFile, Progress progress)
+            throws IOException {
+        List<ResultLine> lines;
+        try {
+            lines = inFlight.poll().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Import interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Import chunk failed; rerun to resume from the last checkpoint",
+                    e.getCause());
+        }
+
+        StringBuilder out = new StringBuilder();
+        for (ResultLine result : lines) {
+            out.append(objectMapper.writeValueAsString(result)).append('\n');
+            progress.count(result.status());
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(out.toString().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            results.write(buffer);
+        }
+        results.force(false);
+
+        checkpoint.line = inFlightLastLines.poll();
+        checkpoint.resultBytes = results.position();
+        checkpoint.save(checkpointFile);
+        progress.report();
+    }
+
+    private List<ResultLine> process(Chunk chunk) {
+        List<Item> parsed = new ArrayList<>(chunk.items().size());
+        List<String> references = new ArrayList<>();
+        for (Item item : chunk.items()) {
+            if (item.errors() == null) {
+                parsed.add(item);
+                references.add(item.reference());
+            }
+        }
+
+        // Rows from a chunk that committed before an interrupted run was checkpointed
+        Set<String> alreadyImported = references.isEmpty()
+                ? Set.of() : loanApplicationRepository.findExistingReferences(references);
+
+        List<Item> pending = new ArrayList<>(parsed.size());
+        List<LoanApplicationRequestDto> requests = new ArrayList<>(parsed.size());
+        List<String> pendingReferences = new ArrayList<>(parsed.size());
+        for (Item item : parsed) {
+            if (!alreadyImported.contains(item.reference())) {
+                pending.add(item);
+                requests.add(item.request());
+                pendingReferences.add(item.reference());
+            }
+        }
+
+        List<LoanApplicationBatchItemDto> decided = requests.isEmpty() ? List.of() : decide(requests, pendingReferences);
+
+        List<ResultLine> lines = new ArrayList<>(chunk.items().size());
+        int next = 0;
+        for (Item item : chunk.items()) {
+            if (item.errors() != null) {
+                lines.add(new ResultLine(item.line(), "REJECTED", null, null, null, item.errors()));
+            } else if (alreadyImported.contains(item.reference())) {
+                lines.add(new ResultLine(item.line(), "ALREADY_IMPORTED", item.reference(), null, null, null));
+            } else {
+                LoanApplicationBatchItemDto result = decided.get(next++);
+                lines.add(result.getErrors() != null
+                        ? new ResultLine(item.line(), "REJECTED", null, null, null, result.getErrors())
+                        : new ResultLine(item.line(), "ACCEPTED", result.getResult().getApplicationId(),
+                        result.getResult().getDecision(), result.getResult().getReason(), null));
+            }
+        }
+        return lines;
+    }
+
+    private List<LoanApplicationBatchItemDto> decide(List<LoanApplicationRequestDto> requests, List<String> references) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                LoanApplicationBatchResponseDto response =
+                        decisionService.processLoanApplicationBatch(requests, references);
+                return response.getResults();
+            } catch (DataIntegrityViolationException e) {
+                // A parallel chunk inserted the same new applicant first; the retry finds it
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Import chunk hit a concurrent applicant insert (attempt {}); retrying", attempt);
+            }
+        }
+    }
+
+    private Item parse(long lineNumber, String line, DataFileFormat format, int[] columns, String jobId) {
+        String reference = UUID.nameUUIDFromBytes((jobId + ":" + lineNumber).getBytes(StandardCharsets.UTF_8))
+                .toString();
+        try {
+            LoanApplicationRequestDto request = format == DataFileFormat.CSV
+                    ? fromCsv(CsvUtil.parseLine(line), columns)
+                    : objectMapper.readValue(line, LoanApplicationRequestDto.class);
+            return new Item(lineNumber, reference, request, null);
+        } catch (JsonProcessingException e) {
+            return new Item(lineNumber, reference, null, Map.of("record", "Malformed JSON"));
+        } catch (IllegalArgumentException e) {
+            return new Item(lineNumber, reference, null, Map.of("record", e.getMessage()));
+        }
+    }
+
+    private static LoanApplicationRequestDto fromCsv(List<String> fields, int[] columns) {
+        if (fields.size() < columns.length) {
+            throw new IllegalArgumentException("Expected at least " + columns.length + " fields but found " + fields.size());
+        }
+        String amount = fields.get(columns[5]).trim();
+        BigDecimal requestedAmount;
+        try {
+            requestedAmount = amount.isEmpty() ? null : new BigDecimal(amount);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Requested amount must be a number");
+        }
+        return LoanApplicationRequestDto.builder()
+                .name(fields.get(columns[0]))
+                .address(fields.get(columns[1]))
+                .email(fields.get(columns[2]))
+                .phone(fields.get(columns[3]))
+                .ssn(fields.get(columns[4]))
+                .requestedAmount(requestedAmount)
+                .build();
+    }
+
+    private static int[] csvColumns(String header) {
+        if (header == null) {
+            throw new IllegalArgumentException("CSV import file is empty");
+        }
+        List<String> names = CsvUtil.parseLine(header).stream()
+                .map(name -> name.trim().replace("_", "").toLowerCase(Locale.ROOT))
+                .toList();
+        int[] columns = new int[CSV_FIELDS.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = names.indexOf(CSV_FIELDS.get(i));
+            if (columns[i] < 0) {
+                throw new IllegalArgumentException("CSV header is missing column " + CSV_FIELDS.get(i));
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Last fully completed line and the result file length at that point, plus the job id the record
+     * references are derived from.
+     */
+    private static final class Checkpoint {
+
+        private final String jobId;
+        private final String input;
+        private long line;
+        private long resultBytes;
+
+        private Checkpoint(String jobId, String input, long line, long resultBytes) {
+            this.jobId = jobId;
+            this.input = input;
+            this.line = line;
+            this.resultBytes = resultBytes;
+        }
+
+        static Checkpoint load(Path file, Path input) {
+            String inputPath = input.toAbsolutePath().normalize().toString();
+            if (!Files.exists(file)) {
+                Checkpoint fresh = new Checkpoint(UUID.randomUUID().toString(), inputPath, 0, 0);
+                fresh.save(file);
+                return fresh;
+            }
+            Properties properties = new Properties();
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error reading import checkpoint " + file, e);
+            }
+            if (!inputPath.equals(properties.getProperty("input"))) {
+                throw new IllegalStateException("Checkpoint " + file + " belongs to "
+                        + properties.getProperty("input") + "; remove it to start a new import");
+            }
+            return new Checkpoint(properties.getProperty("jobId"), inputPath,
+                    Long.parseLong(properties.getProperty("line")),
+                    Long.parseLong(properties.getProperty("resultBytes")));
+        }
+
+        void save(Path file) {
+            Properties properties = new Properties();
+            properties.setProperty("jobId", jobId);
+            properties.setProperty("input", input);
+            properties.setProperty("line", Long.toString(line));
+            properties.setProperty("resultBytes", Long.toString(resultBytes));
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try {
+                try (var writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                    properties.store(writer, null);
+                }
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error writing import checkpoint " + file, e);
+            }
+        }
+    }
+
+    private static final class Progress {
+
+        private static final long LOG_EVERY = 50_000;
+
+        private final long started;
+        private long records;
+        private long accepted;
+        private long rejected;
+        private long alreadyImported;
+        private long nextLog = LOG_EVERY;
+
+        Progress(long started) {
+            this.started = started;
+        }
+
+        void count(String status) {
+            records++;
+            switch (status) {
+                case "ACCEPTED" -> accepted++;
+                case "REJECTED" -> rejected++;
+                default -> alreadyImported++;
+            }
+        }
+
+        void report() {
+            if (records >= nextLog) {
+                nextLog = records + LOG_EVERY;
+                log.info("Imported {} records ({} records/s)", records, Math.round(summary().recordsPerSecond()));
+            }
+        }
+
+        Summary summary() {
+            return new Summary(records, accepted, rejected, alreadyImported,
+                    Duration.ofNanos(System.nanoTime() - started));
+        }
+    }
+}
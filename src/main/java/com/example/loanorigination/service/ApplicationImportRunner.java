@@ -0,0 +1,48 @@
+package com.example.loanorigination.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * Command-line import of a partner application file:
+ * {@code java -jar app.jar --spring.main.web-application-type=none --loan.import.input=applications.csv}.
+ * The format follows the file extension unless {@code loan.import.format} is set; results go to
+ * {@code loan.import.result} (default: the input path plus {@code .result.ndjson}). Rerunning the same command
+ * after a failure resumes from the checkpoint. Exits when done.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "loan.import.input")
+public class ApplicationImportRunner implements ApplicationRunner {
+
+    private final ApplicationImportJob importJob;
+    private final Environment environment;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Path input = Path.of(environment.getRequiredProperty("loan.import.input"));
+        String fileName = input.getFileName().toString();
+        DataFileFormat format = DataFileFormat.parse(environment.getProperty("loan.import.format",
+                fileName.substring(fileName.lastIndexOf('.') + 1)));
+        Path result = Path.of(environment.getProperty("loan.import.result", input + ".result.ndjson"));
+
+        ApplicationImportJob.Summary summary = importJob.run(input, format, result);
+        log.info("Import finished: {} records, {} records/s, results in {}",
+                summary.records(), Math.round(summary.recordsPerSecond()), result);
+
+        if (environment.getProperty("loan.import.exit", Boolean.class, true)) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.loanorigination.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Keeps bureau responses for the validity window of a credit pull, keyed by SSN blind index, so repeat
+ * applications within {@code loan.credit.cache.ttl} are decided without another bureau call.
+ * Failures are not cached.
+ */
+public class CachingCreditDataProvider implements CreditDataProvider {
+
+    static final String CACHE_NAME = "creditProfiles";
+
+    private final CreditDataProvider delegate;
+    private final Cache<String, CreditProfile> profiles;
+
+    public CachingCreditDataProvider(CreditDataProvider delegate, Duration ttl, long maxSize,
+                                     MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.profiles = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, profiles, CACHE_NAME);
+    }
+
+    @Override
+    public CreditProfile fetch(CreditInquiry inquiry) {
+        CreditProfile cached = profiles.getIfPresent(inquiry.ssnHash());
+        if (cached != null) {
+            return cached;
+        }
+        // Not computed under the cache lock: a slow bureau call must not block other keys
+        CreditProfile profile = delegate.fetch(inquiry);
+        profiles.put(inquiry.ssnHash(), profile);
+        return profile;
+    }
+
+    @Override
+    public CompletableFuture<CreditProfile> fetchAsync(CreditInquiry inquiry) {
+        CreditProfile cached = profiles.getIfPresent(inquiry.ssnHash());
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return delegate.fetchAsync(inquiry).thenApply(profile -> {
+            profiles.put(inquiry.ssnHash(), profile);
+            return profile;
+        });
+    }
+
+    @Override
+    public List<CreditProfile> fetchAll(List<CreditInquiry> inquiries) {
+        CreditProfile[] result = new CreditProfile[inquiries.size()];
+        List<Integer> missIndexes = new ArrayList<>();
+        List<CreditInquiry> misses = new ArrayList<>();
+        for (int i = 0; i < inquiries.size(); i++) {
+            CreditProfile cached = profiles.getIfPresent(inquiries.get(i).ssnHash());
+            if (cached != null) {
+                result[i] = cached;
+            } else {
+                missIndexes.add(i);
+                misses.add(inquiries.get(i));
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            List<CreditProfile> fetched = delegate.fetchAll(misses);
+            for (int n = 0; n < misses.size(); n++) {
+                result[missIndexes.get(n)] = fetched.get(n);
+                profiles.put(misses.get(n).ssnHash(), fetched.get(n));
+            }
+        }
+        return List.of(result);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.loanorigination.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Source of an applicant's credit data. Implementations may call remote services, so callers must not hold
+ * a database transaction open while calling them.
+ */
+public interface CreditDataProvider {
+
+    CreditProfile fetch(CreditInquiry inquiry);
+
+    /**
+     * Non-blocking variant for reactive callers; failures complete the future exceptionally. The default runs
+     * {@link #fetch} on the calling thread, so implementations that block must override it.
+     */
+    default CompletableFuture<CreditProfile> fetchAsync(CreditInquiry inquiry) {
+        try {
+            return CompletableFuture.completedFuture(fetch(inquiry));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Fetches profiles for several applicants, returned in inquiry order. Remote implementations override
+     * this to run the pulls concurrently.
+     */
+    default List<CreditProfile> fetchAll(List<CreditInquiry> inquiries) {
+        List<CreditProfile> profiles = new ArrayList<>(inquiries.size());
+        for (CreditInquiry inquiry : inquiries) {
+            profiles.add(fetch(inquiry));
+        }
+        return profiles;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.loanorigination.service;
+
+import com.example.loanorigination.util.DataMaskingUtil;
+
+/**
+ * What a credit pull is keyed on: the SSN sent to the bureau and its blind index, used for caching.
+ */
+public record CreditInquiry(String ssn, String ssnHash) {
+
+    @Override
+    public String toString() {
+        return "CreditInquiry[ssn=" + DataMaskingUtil.maskSsn(ssn) + "]";
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.loanorigination.service;
+
+/**
+ * Bureau data the decision rules consume.
+ */
+public record CreditProfile(int creditLines) {
+}
@@ -0,0 +1,35 @@
+package com.example.loanorigination.service;
+
+import com.example.loanorigination.exception.InvalidRequestException;
+
+import java.util.Locale;
+
+/**
+ * Line-oriented file formats used by decision exports and application imports.
+ */
+public enum DataFileFormat {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final String contentType;
+
+    DataFileFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static DataFileFormat parse(String value) {
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Unsupported file format: " + value);
+        }
+    }
+}
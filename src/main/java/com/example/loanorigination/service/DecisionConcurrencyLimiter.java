@@ -0,0 +1,52 @@
+package com.example.loanorigination.service;
+
+import com.example.loanorigination.exception.ServiceBusyException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Caps how many requests are in the database phase of {@link LoanDecisionService} (applicant resolution and the
+ * write transaction) at once. With virtual threads Tomcat no longer limits concurrency, so without this gate
+ * thousands of requests would queue inside HikariCP and fail on its connection timeout. Permits default to the
+ * Hikari pool size; callers that cannot get one within the acquire timeout are rejected with 503.
+ * Credit bureau calls happen before a permit is taken and are bounded by the bureau client instead.
+ */
+@Component
+public class DecisionConcurrencyLimiter {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+
+    public DecisionConcurrencyLimiter(
+            @Value("${loan.concurrency.max-in-flight:10}") int maxInFlight,
+            @Value("${loan.concurrency.acquire-timeout:5s}") Duration acquireTimeout) {
+        this.permits = new Semaphore(maxInFlight, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    public <T> T call(Supplier<T> work) {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new ServiceBusyException("Too many loan applications in progress. Please retry shortly.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("Interrupted while waiting for a decision slot");
+        }
+
+        try {
+            return work.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+}
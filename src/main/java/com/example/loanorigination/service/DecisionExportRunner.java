@@ -0,0 +1,63 @@
+package com.example.loanorigination.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+/**
+ * Command-line decision export for scheduled compliance extracts:
+ * {@code java -jar app.jar --spring.main.web-application-type=none --loan.export.output=decisions.csv}.
+ * Exports yesterday's decisions unless {@code loan.export.from} / {@code loan.export.to} are given,
+ * picks the format from {@code loan.export.format} (csv or ndjson), then exits.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "loan.export.output")
+public class DecisionExportRunner implements ApplicationRunner {
+
+    private final DecisionExportService exportService;
+    private final Environment environment;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Path output = Path.of(environment.getRequiredProperty("loan.export.output"));
+        DataFileFormat format =
+                DataFileFormat.parse(environment.getProperty("loan.export.format", "csv"));
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        LocalDate from = date("loan.export.from", yesterday);
+        LocalDate to = date("loan.export.to", yesterday);
+
+        long rows;
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(output))) {
+            rows = exportService.export(out, format, from, to);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing export to " + output, e);
+        }
+        log.info("Wrote {} decisions to {}", rows, output);
+
+        if (environment.getProperty("loan.export.exit", Boolean.class, true)) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+
+    private LocalDate date(String property, LocalDate defaultValue) {
+        String value = environment.getProperty(property);
+        return value == null || value.isBlank() ? defaultValue : LocalDate.parse(value);
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.loanorigination.service;
+
+import com.example.loanorigination.exception.InvalidRequestException;
+import com.example.loanorigination.util.CryptoUtil;
+import com.example.loanorigination.util.CsvUtil;
+import com.example.loanorigination.util.DataMaskingUtil;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Streams every decision, joined with its application and masked applicant, as CSV or NDJSON.
+ * Rows are read through a forward-only, read-only JDBC cursor with a fixed fetch size and written to the
+ * output stream as they arrive, so memory use does not depend on the number of rows exported.
+ */
+@Slf4j
+@Service
+public class DecisionExportService {
+
+    static final String[] COLUMNS = {
+            "offer_id", "application_id", "applicant_id", "email", "ssn", "requested_amount",
+            "decision", "reason", "interest_rate", "term_months", "monthly_payment", "decided_at"
+    };
+
+    private static final String SQL = """
+            SELECT o.id, a.reference, p.id, p.email, p.ssn, o.requested_amount, o.decision, o.reason,
+                   o.interest_rate, o.term_months, o.monthly_payment, o.created_at
+            FROM loan_offer o
+            JOIN loan_application a ON a.id = o.application_id
+            JOIN applicant p ON p.id = a.applicant_id
+            WHERE o.created_at >= ? AND o.created_at < ?
+            ORDER BY o.created_at, o.id
+            """;
+
+    private static final LocalDateTime MIN_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_TIME = LocalDateTime.of(9999, 1, 1, 0, 0);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CryptoUtil cryptoUtil;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public DecisionExportService(JdbcTemplate jdbcTemplate,
+                                 CryptoUtil cryptoUtil,
+                                 ObjectMapper objectMapper,
+                                 @Value("${loan.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cryptoUtil = cryptoUtil;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Writes the decisions made from {@code from} through {@code to} (both inclusive, either may be null)
+     * and returns the number of rows written. The stream is flushed but not closed.
+     */
+    // A transaction keeps the connection out of autocommit, which PostgreSQL requires to honour the fetch size
+    @Transactional(readOnly = true)
+    public long export(OutputStream out, DataFileFormat format, LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidRequestException("Export start date must not be after its end date");
+        }
+        LocalDateTime start = from != null ? from.atStartOfDay() : MIN_TIME;
+        LocalDateTime end = to != null ? to.plusDays(1).atStartOfDay() : MAX_TIME;
+
+        try {
+            RowWriter writer = format == DataFileFormat.CSV ? new CsvRowWriter(out) : new NdjsonRowWriter(out, objectMapper);
+            long[] rows = {0};
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                statement.setTimestamp(1, Timestamp.valueOf(start));
+                statement.setTimestamp(2, Timestamp.valueOf(end));
+                return statement;
+            }, (RowCallbackHandler) rs -> {
+                try {
+                    writer.write(row(rs));
+                    rows[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.finish();
+            log.info("Exported {} decisions as {} for {} to {}", rows[0], format, from, to);
+            return rows[0];
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing decision export", e);
+        }
+    }
+
+    private Object[] row(ResultSet rs) throws SQLException {
+        Timestamp decidedAt = rs.getTimestamp(12);
+        return new Object[]{
+                rs.getLong(1),
+                rs.getString(2),
+                rs.getLong(3),
+                DataMaskingUtil.maskEmail(rs.getString(4)),
+                DataMaskingUtil.maskSsn(cryptoUtil.decrypt(rs.getString(5))),
+                rs.getBigDecimal(6),
+                rs.getString(7),
+                rs.getString(8),
+                rs.getBigDecimal(9),
+                rs.getObject(10, Integer.class),
+                rs.getBigDecimal(11),
+                decidedAt != null ? decidedAt.toLocalDateTime().toString() : null
+        };
+    }
+
+    private interface RowWriter {
+        void write(Object[] row) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write(String.join(",", COLUMNS));
+            writer.write('\n');
+        }
+
+        @Override
+        public void write(Object[] row) throws IOException {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeField(row[i]);
+            }
+            writer.write('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        private void writeField(Object value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            writer.write(CsvUtil.escape(value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString()));
+        }
+    }
+
+    private static final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // One object per line: newline-separated instead of Jackson's default space
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(Object[] row) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < row.length; i++) {
+                generator.writeFieldName(COLUMNS[i]);
+                Object value = row[i];
+                if (value == null) {
+                    generator.writeNull();
+                } else if (value instanceof Long number) {
+                    generator.writeNumber(number);
+                } else if (value instanceof Integer number) {
+                    generator.writeNumber(number);
+                } else if (value instanceof BigDecimal number) {
+                    generator.writeNumber(number);
+                } else {
+                    generator.writeString(value.toString());
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+}
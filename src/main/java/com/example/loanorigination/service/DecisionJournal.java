@@ -0,0 +1,201 @@
+package com.example.loanorigination.service;
+
+import com.example.loanorigination.util.CryptoUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Local append-only journal for {@link WriteBehindPersister}.
+ * Each accepted decision is appended as one JSON line before the client is answered; once its rows are
+ * committed a commit line naming its reference is appended. On startup, entries without a commit line
+ * are handed back for replay. When every appended entry has been committed the file is truncated. If some
+ * entries stay uncommitted for long, the file is rewritten with only those once {@code COMPACT_AFTER} commit
+ * lines have piled up, so it does not grow without bound.
+ * <p>
+ * Applicant name, address, email and phone are encrypted with {@link CryptoUtil} in every entry (the SSN
+ * already is), and the file is readable by its owner only where the file system supports POSIX permissions.
+ */
+@Slf4j
+class DecisionJournal implements AutoCloseable {
+
+    static final int COMPACT_AFTER = 10_000;
+
+    // encrypted is null in entries written before contact fields were encrypted
+    record Entry(PendingDecision decision, List<String> committed, Boolean encrypted) {
+    }
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private final boolean fsync;
+    private final CryptoUtil cryptoUtil;
+    private final Map<String, PendingDecision> uncommitted = new LinkedHashMap<>();
+    private FileChannel channel;
+    private int commitLines;
+
+    DecisionJournal(Path path, ObjectMapper objectMapper, boolean fsync, CryptoUtil cryptoUtil) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+        this.fsync = fsync;
+        this.cryptoUtil = cryptoUtil;
+    }
+
+    /**
+     * Opens the journal for appending and returns the entries that were never committed, in append order.
+     * The file is rewritten to contain only those entries.
+     */
+    synchronized List<PendingDecision> open() {
+        try {
+            uncommitted.clear();
+            if (Files.exists(path)) {
+                try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        readLine(line);
+                    }
+                }
+            } else if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+
+            // Rewritten in place of the old file, which may hold plaintext entries from an older version
+            rewrite();
+            return new ArrayList<>(uncommitted.values());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error opening decision journal " + path, e);
+        }
+    }
+
+    synchronized void append(PendingDecision decision) {
+        try {
+            write(new Entry(encrypt(decision), null, true));
+            if (fsync) {
+                channel.force(false);
+            }
+            uncommitted.put(decision.reference(), decision);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error appending to decision journal", e);
+        }
+    }
+
+    synchronized void commit(Collection<String> references) {
+        if (references.isEmpty()) {
+            return;
+        }
+        try {
+            references.forEach(uncommitted::remove);
+            if (uncommitted.isEmpty()) {
+                channel.truncate(0);
+                channel.position(0);
+                commitLines = 0;
+            } else if (++commitLines >= COMPACT_AFTER) {
+                channel.close();
+                rewrite();
+            } else {
+                write(new Entry(null, List.copyOf(references), null));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error committing decision journal entries", e);
+        }
+    }
+
+    synchronized long outstanding() {
+        return uncommitted.size();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Error closing decision journal {}", path, e);
+        }
+        channel = null;
+    }
+
+    // Writes the uncommitted entries to a new file and swaps it in, so a crash leaves either the old or new file
+    private void rewrite() throws IOException {
+        Path compacted = path.resolveSibling(path.getFileName() + ".tmp");
+        channel = FileChannel.open(compacted, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        restrictToOwner(compacted);
+        for (PendingDecision decision : uncommitted.values()) {
+            write(new Entry(encrypt(decision), null, true));
+        }
+        channel.force(false);
+        Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        commitLines = 0;
+    }
+
+    private static void restrictToOwner(Path file) throws IOException {
+        try {
+            Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException e) {
+            log.debug("File system of {} has no POSIX permissions; relying on its directory's ACLs", file);
+        }
+    }
+
+    private PendingDecision encrypt(PendingDecision decision) {
+        return withContact(decision, cryptoUtil::encrypt);
+    }
+
+    private PendingDecision decrypt(PendingDecision decision) {
+        return withContact(decision, cryptoUtil::decrypt);
+    }
+
+    private static PendingDecision withContact(PendingDecision d, UnaryOperator<String> transform) {
+        return new PendingDecision(d.reference(), transform.apply(d.name()), transform.apply(d.address()),
+                transform.apply(d.email()), transform.apply(d.phone()), d.encryptedSsn(), d.ssnHash(),
+                d.requestedAmount(), d.creditLines(), d.decision(), d.reason(), d.interestRate(), d.termMonths(),
+                d.monthlyPayment(), d.rulesVersion(), d.createdAt());
+    }
+
+    private void write(Entry entry) throws IOException {
+        byte[] line = (objectMapper.writeValueAsString(entry) + "\n").getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(line);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void readLine(String line) {
+        if (line.isBlank()) {
+            return;
+        }
+        try {
+            Entry entry = objectMapper.readValue(line, Entry.class);
+            if (entry.decision() != null) {
+                PendingDecision decision = Boolean.TRUE.equals(entry.encrypted())
+                        ? decrypt(entry.decision()) : entry.decision();
+                uncommitted.put(decision.reference(), decision);
+            }
+            if (entry.committed() != null) {
+                entry.committed().forEach(uncommitted::remove);
+            }
+        } catch (IOException e) {
+            // A crash mid-append leaves a torn last line; that entry was never acknowledged to the client
+            log.warn("Skipping unreadable decision journal line in {}", path);
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.example.loanorigination.service;
+
+import com.example.loanorigination.exception.CreditBureauUnavailableException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Credit bureau client: {@code POST {base-url}/credit-reports} with {@code {"ssn": ...}}, answered with
+ * {@code {"creditLines": n}}.
+ * <ul>
+ *   <li>One shared JDK {@link HttpClient}, which pools keep-alive connections; in-flight requests are capped
+ *       at {@code max-concurrent-requests}.</li>
+ *   <li>Connect and per-request timeouts.</li>
+ *   <li>Hedging: if the first request has not answered within {@code hedge-delay}, or fails, another is sent,
+ *       up to {@code max-attempts}; the first success wins.</li>
+ *   <li>A {@link CircuitBreaker} that refuses calls for a while after repeated failures, so a failing bureau
+ *       costs callers nothing instead of a full timeout each.</li>
+ * </ul>
+ * Failures surface as {@link CreditBureauUnavailableException}.
+ */
+@Slf4j
+public class HttpCreditBureauClient implements CreditDataProvider {
+
+    public record Settings(URI baseUrl,
+                           Duration connectTimeout,
+                           Duration requestTimeout,
+                           Duration hedgeDelay,
+                           int maxAttempts,
+                           int maxConcurrentRequests,
+                           int breakerFailureThreshold,
+                           Duration breakerOpenDuration) {
+    }
+
+    private static final class ClientErrorException extends RuntimeException {
+        ClientErrorException(int status) {
+            super("Credit bureau rejected the request with status " + status);
+        }
+    }
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI reportsUri;
+    private final Settings settings;
+    private final Semaphore inFlight;
+    private final CircuitBreaker breaker;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Counter hedges;
+
+    public HttpCreditBureauClient(Settings settings, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.settings = settings;
+        this.objectMapper = objectMapper;
+        this.reportsUri = settings.baseUrl().resolve("/credit-reports");
+        this.inFlight = new Semaphore(settings.maxConcurrentRequests());
+        this.breaker = new CircuitBreaker(settings.breakerFailureThreshold(), settings.breakerOpenDuration());
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(settings.connectTimeout())
+                .build();
+        this.successTimer = bureauTimer(meterRegistry, "success");
+        this.failureTimer = bureauTimer(meterRegistry, "failure");
+        this.hedges = Counter.builder("loan.credit.bureau.hedges")
+                .description("Extra bureau requests sent because an earlier one was slow or failed")
+                .register(meterRegistry);
+        Gauge.builder("loan.credit.bureau.circuit.open", breaker, b -> b.state() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                .description("1 while the bureau circuit breaker is refusing or probing calls")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public CreditProfile fetch(CreditInquiry inquiry) {
+        return join(call(inquiry, true));
+    }
+
+    /**
+     * Never blocks: when {@code max-concurrent-requests} calls are already in flight the future fails at once
+     * instead of waiting for a permit.
+     */
+    @Override
+    public CompletableFuture<CreditProfile> fetchAsync(CreditInquiry inquiry) {
+        return call(inquiry, false).exceptionallyCompose(error -> CompletableFuture.failedFuture(unavailable(error)));
+    }
+
+    @Override
+    public List<CreditProfile> fetchAll(List<CreditInquiry> inquiries) {
+        List<CompletableFuture<CreditProfile>> pending = new ArrayList<>(inquiries.size());
+        for (CreditInquiry inquiry : inquiries) {
+            pending.add(call(inquiry, true));
+        }
+        List<CreditProfile> profiles = new ArrayList<>(inquiries.size());
+        for (CompletableFuture<CreditProfile> future : pending) {
+            profiles.add(join(future));
+        }
+        return profiles;
+    }
+
+    CircuitBreaker.State circuitState() {
+        return breaker.state();
+    }
+
+    private CompletableFuture<CreditProfile> call(CreditInquiry inquiry, boolean waitForPermit) {
+        if (waitForPermit) {
+            acquirePermit();
+        } else if (!inFlight.tryAcquire()) {
+            return CompletableFuture.failedFuture(
+                    new CreditBureauUnavailableException("Too many concurrent credit bureau requests"));
+        }
+        if (!breaker.tryAcquire()) {
+            inFlight.release();
+            return CompletableFuture.failedFuture(
+                    new CreditBureauUnavailableException("Credit bureau circuit is open"));
+        }
+        long start = System.nanoTime();
+        HttpRequest request = HttpRequest.newBuilder(reportsUri)
+                .timeout(settings.requestTimeout())
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body(inquiry)))
+                .build();
+
+        return hedged(request).whenComplete((profile, error) -> {
+            inFlight.release();
+            long elapsed = System.nanoTime() - start;
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            if (cause == null) {
+                breaker.onSuccess();
+                successTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            } else {
+                failureTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                if (cause instanceof ClientErrorException) {
+                    // The bureau is up; the request itself was bad
+                    breaker.onSuccess();
+                } else {
+                    breaker.onFailure();
+                }
+            }
+        });
+    }
+
+    private CompletableFuture<CreditProfile> hedged(HttpRequest request) {
+        CompletableFuture<CreditProfile> result = new CompletableFuture<>();
+        AtomicInteger launched = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        List<CompletableFuture<CreditProfile>> attempts = new ArrayList<>(settings.maxAttempts());
+
+        Runnable launch = new Runnable() {
+            @Override
+            public void run() {
+                if (result.isDone()) {
+                    return;
+                }
+                int attempt = launched.incrementAndGet();
+                if (attempt > settings.maxAttempts()) {
+                    return;
+                }
+                if (attempt > 1) {
+                    hedges.increment();
+                }
+                CompletableFuture<CreditProfile> call = httpClient
+                        .sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                        .thenApply(HttpCreditBureauClient.this::parse);
+                synchronized (attempts) {
+                    attempts.add(call);
+                }
+                call.whenComplete((profile, error) -> {
+                    if (error == null) {
+                        result.complete(profile);
+                        return;
+                    }
+                    Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                    if (cause instanceof ClientErrorException || failed.incrementAndGet() >= settings.maxAttempts()) {
+                        result.completeExceptionally(cause);
+                    } else {
+                        log.debug("Credit bureau attempt {} failed: {}", attempt, cause.toString());
+                        run();
+                    }
+                });
+            }
+        };
+
+        launch.run();
+        CompletableFuture.delayedExecutor(settings.hedgeDelay().toNanos(), TimeUnit.NANOSECONDS).execute(launch);
+        // Abandon the losing attempts once there is an answer
+        result.whenComplete((profile, error) -> {
+            synchronized (attempts) {
+                attempts.forEach(call -> call.cancel(true));
+            }
+        });
+        return result;
+    }
+
+    private CreditProfile parse(HttpResponse<byte[]> response) {
+        int status = response.statusCode();
+        if (status >= 400 && status < 500 && status != 429) {
+            throw new ClientErrorException(status);
+        }
+        if (status != 200) {
+            throw new UncheckedIOException(new IOException("Credit bureau answered with status " + status));
+        }
+        try {
+            JsonNode body = objectMapper.readTree(response.body());
+            JsonNode creditLines = body.get("creditLines");
+            if (creditLines == null || !creditLines.canConvertToInt()) {
+                throw new IOException("Credit bureau response has no creditLines");
+            }
+            return new CreditProfile(creditLines.intValue());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String body(CreditInquiry inquiry) {
+        try {
+            return objectMapper.writeValueAsString(Map.of("ssn", inquiry.ssn()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void acquirePermit() {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CreditBureauUnavailableException("Interrupted waiting for a credit bureau connection");
+        }
+    }
+
+    private static CreditProfile join(CompletableFuture<CreditProfile> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw unavailable(e);
+        }
+    }
+
+    private static CreditBureauUnavailableException unavailable(Throwable error) {
+        Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+        if (cause instanceof CreditBureauUnavailableException unavailable) {
+            return unavailable;
+        }
+        return new CreditBureauUnavailableException("Credit bureau request failed", cause);
+    }
+
+    private static Timer bureauTimer(MeterRegistry registry, String outcome) {
+        return Timer.builder("loan.credit.bureau")
+                .description("Credit bureau calls, including hedged attempts")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
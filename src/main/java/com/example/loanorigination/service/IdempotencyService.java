@@ -0,0 +1,267 @@
+package com.example.loanorigination.service;
+
+import com.example.loanorigination.dto.LoanApplicationRequestDto;
+import com.example.loanorigination.dto.LoanApplicationResponseDto;
+import com.example.loanorigination.entity.IdempotencyRecord;
+import com.example.loanorigination.exception.IdempotencyKeyReusedException;
+import com.example.loanorigination.exception.InvalidRequestException;
+import com.example.loanorigination.exception.ServiceBusyException;
+import com.example.loanorigination.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * Replays stored responses for repeated {@code Idempotency-Key}s on /apply.
+ * <ul>
+ *   <li>The key is reserved in the {@code idempotency_key} table before the decision runs, so only one request
+ *       per key, on any instance, pulls credit and decides.</li>
+ *   <li>The response is written to the reserved row inside the transaction that writes the application and offer
+ *       ({@link Action}), so either both commit or neither does. A failed request releases its reservation.</li>
+ *   <li>A key sent again with a different body is rejected with {@link IdempotencyKeyReusedException}.</li>
+ *   <li>Duplicates on this instance wait on the first request's future; duplicates on other instances poll the
+ *       table. A reservation older than {@code pending-timeout} is taken to belong to a crashed request and is
+ *       taken over.</li>
+ * </ul>
+ * Completed responses are also kept in a bounded, time-evicting in-memory cache.
+ */
+@Slf4j
+@Service
+@RegisterReflectionForBinding(LoanApplicationResponseDto.class)
+public class IdempotencyService {
+
+    static final int MAX_KEY_LENGTH = 128;
+    static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+
+    /**
+     * Runs the decision for a reserved key. {@code store} must be called with the response inside the transaction
+     * that writes the application; it throws if the reservation was lost, which rolls that transaction back.
+     */
+    @FunctionalInterface
+    public interface Action {
+        LoanApplicationResponseDto run(Consumer<LoanApplicationResponseDto> store);
+    }
+
+    private record Completed(String requestHash, LoanApplicationResponseDto response) {
+    }
+
+    private record InFlight(String requestHash, CompletableFuture<LoanApplicationResponseDto> future) {
+    }
+
+    private final IdempotencyRecordRepository repository;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration waitTimeout;
+    private final Duration pendingTimeout;
+    private final Cache<String, Completed> responses;
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(IdempotencyRecordRepository repository,
+                              ObjectMapper objectMapper,
+                              @Value("${loan.idempotency.ttl:24h}") Duration ttl,
+                              @Value("${loan.idempotency.max-entries:100000}") long maxEntries,
+                              @Value("${loan.idempotency.wait-timeout:30s}") Duration waitTimeout,
+                              @Value("${loan.idempotency.pending-timeout:2m}") Duration pendingTimeout) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.waitTimeout = waitTimeout;
+        this.pendingTimeout = pendingTimeout;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public LoanApplicationResponseDto execute(String key, LoanApplicationRequestDto request, Action action) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidRequestException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        String requestHash = requestHash(request);
+
+        Completed cached = responses.getIfPresent(key);
+        if (cached != null) {
+            log.debug("Idempotency-Key {} answered from cache", key);
+            return responseFor(key, cached, requestHash);
+        }
+
+        InFlight claim = new InFlight(requestHash, new CompletableFuture<>());
+        InFlight running = inFlight.putIfAbsent(key, claim);
+        if (running != null) {
+            checkSameRequest(key, running.requestHash(), requestHash);
+            log.debug("Idempotency-Key {} already in progress; waiting", key);
+            return await(running.future());
+        }
+
+        try {
+            // A previous owner may have finished between the cache check and the claim
+            Completed completed = responses.getIfPresent(key);
+            if (completed == null) {
+                completed = loadOrRun(key, requestHash, action);
+                responses.put(key, completed);
+            }
+            LoanApplicationResponseDto response = responseFor(key, completed, requestHash);
+            claim.future().complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            claim.future().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, claim);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${loan.idempotency.purge-interval:10m}")
+    public void purgeExpired() {
+        int removed = repository.deleteOlderThan(LocalDateTime.now().minus(ttl));
+        if (removed > 0) {
+            log.info("Purged {} expired idempotency keys", removed);
+        }
+    }
+
+    private Completed loadOrRun(String key, String requestHash, Action action) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (true) {
+            String owner = UUID.randomUUID().toString();
+            if (reserve(key, requestHash, owner)) {
+                return run(key, requestHash, owner, action);
+            }
+
+            IdempotencyRecord stored = repository.findById(key).orElse(null);
+            if (stored == null) {
+                continue; // released or purged since the insert failed
+            }
+            LocalDateTime now = LocalDateTime.now();
+            if (stored.getCreatedAt().isBefore(now.minus(ttl))) {
+                repository.deleteIfOlderThan(key, now.minus(ttl));
+                continue;
+            }
+            checkSameRequest(key, stored.getRequestHash(), requestHash);
+            if (stored.getResponseBody() != null) {
+                log.debug("Idempotency-Key {} answered from store", key);
+                return new Completed(stored.getRequestHash(), fromJson(stored.getResponseBody()));
+            }
+            if (stored.getCreatedAt().isBefore(now.minus(pendingTimeout))
+                    && repository.takeOver(key, stored.getOwnerToken(), owner, now) == 1) {
+                log.warn("Idempotency-Key {} was reserved at {} and never completed; taking it over",
+                        key, stored.getCreatedAt());
+                return run(key, requestHash, owner, action);
+            }
+            if (System.nanoTime() >= deadline) {
+                throw new ServiceBusyException("Original request with this Idempotency-Key is still in progress");
+            }
+            sleep(POLL_INTERVAL);
+        }
+    }
+
+    private boolean reserve(String key, String requestHash, String owner) {
+        try {
+            return repository.reserve(key, requestHash, owner, LocalDateTime.now()) == 1;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    private Completed run(String key, String requestHash, String owner, Action action) {
+        try {
+            LoanApplicationResponseDto response = action.run(result -> {
+                if (repository.complete(key, owner, toJson(result)) != 1) {
+                    throw new ServiceBusyException("Idempotency-Key " + key + " was taken over by another request");
+                }
+            });
+            return new Completed(requestHash, response);
+        } catch (RuntimeException e) {
+            try {
+                repository.release(key, owner);
+            } catch (RuntimeException releaseFailure) {
+                e.addSuppressed(releaseFailure);
+            }
+            throw e;
+        }
+    }
+
+    private static LoanApplicationResponseDto responseFor(String key, Completed completed, String requestHash) {
+        checkSameRequest(key, completed.requestHash(), requestHash);
+        return completed.response();
+    }
+
+    private static void checkSameRequest(String key, String storedHash, String requestHash) {
+        // Keys stored before request hashes were recorded match any body
+        if (storedHash != null && !Objects.equals(storedHash, requestHash)) {
+            throw new IdempotencyKeyReusedException(
+                    "Idempotency-Key " + key + " was already used with a different request body");
+        }
+    }
+
+    private LoanApplicationResponseDto await(CompletableFuture<LoanApplicationResponseDto> running) {
+        try {
+            return running.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Original request for this Idempotency-Key failed", e.getCause());
+        } catch (TimeoutException e) {
+            throw new ServiceBusyException("Original request with this Idempotency-Key is still in progress");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("Interrupted waiting for the original request");
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("Interrupted waiting for the original request");
+        }
+    }
+
+    String requestHash(LoanApplicationRequestDto request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Error hashing request for idempotency store", e);
+        }
+    }
+
+    private String toJson(LoanApplicationResponseDto response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Error serializing response for idempotency store", e);
+        }
+    }
+
+    private LoanApplicationResponseDto fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, LoanApplicationResponseDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Error reading stored idempotent response", e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.loanorigination.service;
+
+/**
+ * Immutable result of {@link LoanDecisionEngine#evaluate(long, int)}.
+ * Denials are preallocated by each {@link LoanRules} version; approvals carry the tier and the payment in cents.
+ * {@code reasonCode} is a stable, low-cardinality identifier for metrics; {@code reason} is shown to clients.
+ * {@code rulesVersion} identifies the rules that produced the decision.
+ */
+public record LoanDecision(boolean approved, String reasonCode, String reason, RateTier tier, long monthlyPaymentCents,
+                           String rulesVersion) {
+
+    public static final String APPROVED = "APPROVED";
+    public static final String DENIED = "DENIED";
+
+    public static LoanDecision approve(RateTier tier, long monthlyPaymentCents, String rulesVersion) {
+        return new LoanDecision(true, "approved", null, tier, monthlyPaymentCents, rulesVersion);
+    }
+
+    public static LoanDecision deny(String reasonCode, String reason, String rulesVersion) {
+        return new LoanDecision(false, reasonCode, reason, null, 0L, rulesVersion);
+    }
+
+    public String decision() {
+        return approved ? APPROVED : DENIED;
+    }
+}
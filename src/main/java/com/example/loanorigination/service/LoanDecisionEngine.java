@@ -0,0 +1,42 @@
+package com.example.loanorigination.service;
+
+import java.util.Objects;
+
+/**
+ * Loan approval and pricing rules over primitive inputs.
+ * Holds no JPA or Spring state, so it can be used directly for what-if and pricing simulations
+ * as well as from {@link LoanDecisionService}, which maps the result onto a {@code LoanOffer}.
+ * The active {@link LoanRules} are read from a volatile reference and replaced whole by {@link #apply},
+ * so evaluation takes no lock and always sees one consistent version.
+ */
+public final class LoanDecisionEngine {
+
+    private final AmortizationTable amortizationTable;
+    private volatile LoanRules rules;
+
+    public LoanDecisionEngine(AmortizationTable amortizationTable) {
+        this(amortizationTable, LoanRules.DEFAULT);
+    }
+
+    public LoanDecisionEngine(AmortizationTable amortizationTable, LoanRules rules) {
+        this.amortizationTable = amortizationTable;
+        this.rules = Objects.requireNonNull(rules);
+    }
+
+    public LoanDecision evaluate(long amountCents, int creditLines) {
+        return rules.evaluate(amountCents, creditLines, amortizationTable);
+    }
+
+    /**
+     * Makes {@code newRules} the active version. Amortization factors for its tiers are cached first,
+     * so the first decisions under the new version do not compute them.
+     */
+    public void apply(LoanRules newRules) {
+        amortizationTable.refresh(newRules.tiers());
+        this.rules = newRules;
+    }
+
+    public LoanRules rules() {
+        return rules;
+    }
+}
@@ -1,24 +1,37 @@
 package com.example.loanorigination.service;
 
+import com.example.loanorigination.dto.LoanApplicationBatchItemDto;
+import com.example.loanorigination.dto.LoanApplicationBatchResponseDto;
 import com.example.loanorigination.dto.LoanApplicationRequestDto;
 import com.example.loanorigination.dto.LoanApplicationResponseDto;
 import com.example.loanorigination.dto.LoanOfferDto;
 import com.example.loanorigination.entity.Applicant;
 import com.example.loanorigination.entity.LoanApplication;
 import com.example.loanorigination.entity.LoanOffer;
+import com.example.loanorigination.exception.InvalidRequestException;
+import com.example.loanorigination.exception.ResourceNotFoundException;
 import com.example.loanorigination.repository.ApplicantRepository;
 import com.example.loanorigination.repository.LoanApplicationRepository;
 import com.example.loanorigination.repository.LoanOfferRepository;
 import com.example.loanorigination.mapper.LoanMapper;
-import com.example.loanorigination.util.CryptoUtil;
+import com.example.loanorigination.util.BlindIndexUtil;
+import com.example.loanorigination.validation.LoanApplicationRequestValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.Random;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -29,86 +42,290 @@ public class LoanDecisionService {
     private final LoanApplicationRepository loanApplicationRepository;
     private final LoanOfferRepository loanOfferRepository;
     private final LoanMapper loanMapper;
-    private final Random rng;
-    private final CryptoUtil cryptoUtil;
+    private final CreditDataProvider creditDataProvider;
+    private final BlindIndexUtil blindIndexUtil;
+    private final ApplicantResolver applicantResolver;
+    private final TransactionTemplate transactionTemplate;
+    private final LoanApplicationRequestValidator requestValidator;
+    private final LoanDecisionEngine decisionEngine;
+    private final LoanMetrics metrics;
+    private final WriteBehindPersister writeBehind;
+    private final DecisionConcurrencyLimiter concurrencyLimiter;
 
-    private static final BigDecimal MIN_AMOUNT = BigDecimal.valueOf(10000);
-    private static final BigDecimal MAX_AMOUNT = BigDecimal.valueOf(50000);
+    static final int MAX_BATCH_SIZE = 5000;
 
-    @Transactional
+    /**
+     * Runs in three steps so a connection is only held for the inserts:
+     * <ol>
+     *   <li>pull credit data and decide, with no connection held;</li>
+     *   <li>resolve the applicant (cached, or looked up / inserted in its own short transaction);</li>
+     *   <li>write the application and offer in one short transaction that attaches the applicant by reference.</li>
+     * </ol>
+     * Only steps 2 and 3 hold a {@link DecisionConcurrencyLimiter} permit, so slow bureau calls do not count
+     * against the connection-sized limit.
+     * In write-behind mode the decision is returned as soon as it is journaled; see {@link WriteBehindPersister}.
+     */
     public LoanApplicationResponseDto processLoanApplication(LoanApplicationRequestDto req) {
+        return processLoanApplication(req, response -> { });
+    }
+
+    /**
+     * Same as {@link #processLoanApplication(LoanApplicationRequestDto)}, but hands the response to
+     * {@code onWrite} inside the transaction that writes the application and offer, so anything it writes
+     * (such as the stored Idempotency-Key response) commits or rolls back with them. In write-behind mode
+     * there is no such transaction; {@code onWrite} runs once the decision is journaled.
+     */
+    public LoanApplicationResponseDto processLoanApplication(LoanApplicationRequestDto req,
+                                                             Consumer<LoanApplicationResponseDto> onWrite) {
         log.info("Processing new loan application for {}", req.getName());
 
-        //Check if applicant exists before saving to DB
-        Applicant applicant = applicantRepository
-                .findByEmail(req.getEmail())
-                .orElseGet(() -> applicantRepository.save(loanMapper.toApplicant(cryptoUtil, req)));
+        if (writeBehind.isEnabled()) {
+            LoanApplicationResponseDto response = decideAndEnqueue(req);
+            onWrite.accept(response);
+            return response;
+        }
+
+        //Decide before touching the database; the applicant is attached in the write transaction
+        int creditLines = fetchCreditLines(req);
+        LoanApplication application = loanMapper.toLoanApplication(req, null);
+        LoanOffer offer = evaluateDecision(application, creditLines);
+
+        LoanApplicationResponseDto response = toResponse(offer);
+        long applicantId = concurrencyLimiter.call(() -> {
+            long id = metrics.time(LoanMetrics.Stage.APPLICANT, () -> applicantResolver.resolveId(req));
+            transactionTemplate.executeWithoutResult(status -> {
+                application.setApplicant(applicantRepository.getReferenceById(id));
+                //Flushed here so the stage timers cover the inserts
+                metrics.time(LoanMetrics.Stage.APPLICATION_SAVE, () -> loanApplicationRepository.saveAndFlush(application));
+                metrics.time(LoanMetrics.Stage.OFFER_SAVE, () -> loanOfferRepository.saveAndFlush(offer));
+                onWrite.accept(response);
+            });
+            return id;
+        });
+
+        log.debug("Saved loan application: id={}, applicantId={}", application.getId(), applicantId);
+        log.info("Decision: applicant={}, decision={}", req.getName(), offer.getDecision());
+
+        return response;
+    }
+
+    /**
+     * Processes a batch of applications in one transaction.
+     * Invalid items are reported with the same field → message map as single applications and are not persisted.
+     * Credit for the valid items is pulled concurrently before the transaction opens. All applicants are resolved
+     * by SSN blind index or email with one query, decisions are made in memory, and the resulting rows are
+     * written through Hibernate JDBC insert batching.
+     * Results are returned in submission order.
+     */
+    public LoanApplicationBatchResponseDto processLoanApplicationBatch(List<LoanApplicationRequestDto> requests) {
+        return processLoanApplicationBatch(requests, null);
+    }
+
+    /**
+     * Same as {@link #processLoanApplicationBatch(List)}, but stores each application under the caller's
+     * reference (same index as its request) so a re-submitted item can be recognised as already written.
+     */
+    public LoanApplicationBatchResponseDto processLoanApplicationBatch(List<LoanApplicationRequestDto> requests,
+                                                                       List<String> references) {
+        if (references != null && references.size() != requests.size()) {
+            throw new InvalidRequestException("Expected one reference per application");
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new InvalidRequestException("Batch size must not exceed " + MAX_BATCH_SIZE + " applications");
+        }
+        log.info("Processing batch of {} loan applications", requests.size());
+
+        LoanApplicationBatchItemDto[] results = new LoanApplicationBatchItemDto[requests.size()];
+        List<Integer> acceptedIndexes = new ArrayList<>(requests.size());
+        String[] ssnHashes = new String[requests.size()];
+        Set<String> emails = new HashSet<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            LoanApplicationRequestDto req = requests.get(i);
+            Map<String, String> errors = validate(req);
+            if (errors.isEmpty()) {
+                acceptedIndexes.add(i);
+                ssnHashes[i] = blindIndexUtil.hashSsn(req.getSsn());
+                emails.add(req.getEmail());
+            } else {
+                results[i] = LoanApplicationBatchItemDto.builder().index(i).errors(errors).build();
+            }
+        }
+
+        List<CreditInquiry> inquiries = new ArrayList<>(acceptedIndexes.size());
+        for (int i : acceptedIndexes) {
+            inquiries.add(new CreditInquiry(requests.get(i).getSsn(), ssnHashes[i]));
+        }
+        List<CreditProfile> profiles = inquiries.isEmpty() ? List.of()
+                : metrics.time(LoanMetrics.Stage.CREDIT, () -> creditDataProvider.fetchAll(inquiries));
+
+        int newApplicantCount = concurrencyLimiter.call(() -> transactionTemplate.execute(status ->
+                writeBatch(requests, references, acceptedIndexes, ssnHashes, emails, profiles, results)));
+
+        log.info("Batch complete: accepted={}, rejected={}, newApplicants={}",
+                acceptedIndexes.size(), requests.size() - acceptedIndexes.size(), newApplicantCount);
+
+        return LoanApplicationBatchResponseDto.builder()
+                .accepted(acceptedIndexes.size())
+                .rejected(requests.size() - acceptedIndexes.size())
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    /**
+     * Returns the persistence status of an application by the id handed out in its /apply response.
+     */
+    public WriteBehindPersister.Status persistenceStatus(String applicationId) {
+        WriteBehindPersister.Status status = writeBehind.status(applicationId);
+        if (status == null) {
+            throw new ResourceNotFoundException("Loan application " + applicationId + " not found");
+        }
+        return status;
+    }
 
-        //Save application details to DB
+    /**
+     * Decides an application without touching the database, returning the rows it would write.
+     * Shared by write-behind mode and {@link ReactiveLoanDecisionService}, so every path applies the same rules.
+     */
+    PendingDecision decide(LoanApplicationRequestDto req, String ssnHash, int creditLines) {
+        Applicant applicant = applicantResolver.newApplicant(req, ssnHash);
         LoanApplication application = loanMapper.toLoanApplication(req, applicant);
-        loanApplicationRepository.save(application);
-        log.debug("Saved loan application: id={}, applicantId={}", application.getId(), applicant.getId());
+        LoanOffer offer = evaluateDecision(application, creditLines);
+        return PendingDecision.of(applicant, application, offer);
+    }
+
+    LoanApplicationResponseDto toResponse(PendingDecision decision) {
+        return toResponse(decision.toOffer(decision.toApplication(null)));
+    }
+
+    private LoanApplicationResponseDto decideAndEnqueue(LoanApplicationRequestDto req) {
+        String ssnHash = blindIndexUtil.hashSsn(req.getSsn());
+        int creditLines = metrics.time(LoanMetrics.Stage.CREDIT,
+                () -> creditDataProvider.fetch(new CreditInquiry(req.getSsn(), ssnHash)).creditLines());
+        PendingDecision decision = decide(req, ssnHash, creditLines);
+
+        writeBehind.submit(decision);
+        log.info("Decision queued for write-behind: applicant={}, decision={}", req.getName(), decision.decision());
+
+        return toResponse(decision);
+    }
+
+    /**
+     * Resolves applicants, decides and inserts the accepted items of a batch, filling their {@code results}
+     * slots. Runs inside the batch transaction; returns the number of applicants created.
+     */
+    private int writeBatch(List<LoanApplicationRequestDto> requests, List<String> references,
+                           List<Integer> acceptedIndexes, String[] ssnHashes, Set<String> emails,
+                           List<CreditProfile> profiles, LoanApplicationBatchItemDto[] results) {
+        //Resolve every known applicant with a single query
+        Map<String, Applicant> applicantsBySsnHash = new HashMap<>();
+        Map<String, Applicant> applicantsByEmail = new HashMap<>();
+        if (!emails.isEmpty()) {
+            Set<String> hashes = new HashSet<>(Arrays.asList(ssnHashes));
+            hashes.remove(null);
+            for (Applicant existing : applicantRepository.findBySsnHashInOrEmailIn(hashes, emails)) {
+                if (existing.getSsnHash() != null) {
+                    applicantsBySsnHash.put(existing.getSsnHash(), existing);
+                }
+                applicantsByEmail.put(existing.getEmail(), existing);
+            }
+        }
+
+        //Decide everything in memory before touching the database again
+        List<Applicant> newApplicants = new ArrayList<>();
+        List<LoanApplication> applications = new ArrayList<>(acceptedIndexes.size());
+        List<LoanOffer> offers = new ArrayList<>(acceptedIndexes.size());
+        LocalDateTime now = LocalDateTime.now();
 
-        //Evaluate decision
-        LoanOffer offer = evaluateDecision(application);
-        offer.setApplication(application);
+        for (int n = 0; n < acceptedIndexes.size(); n++) {
+            int i = acceptedIndexes.get(n);
+            LoanApplicationRequestDto req = requests.get(i);
+            Applicant applicant = applicantsBySsnHash.get(ssnHashes[i]);
+            if (applicant == null) {
+                applicant = applicantsByEmail.get(req.getEmail());
+            }
+            if (applicant == null) {
+                applicant = applicantResolver.newApplicant(req, ssnHashes[i]);
+                newApplicants.add(applicant);
+                applicantsBySsnHash.put(ssnHashes[i], applicant);
+                applicantsByEmail.put(req.getEmail(), applicant);
+            }
 
-        //Save offer details
-        loanOfferRepository.save(offer);
+            LoanApplication application = loanMapper.toLoanApplication(req, applicant);
+            application.setCreatedAt(now);
+            if (references != null) {
+                application.setReference(references.get(i));
+            }
+            LoanOffer offer = evaluateDecision(application, profiles.get(n).creditLines());
 
-        log.info("Decision: applicant={}, decision={}", applicant.getName(), offer.getDecision());
+            applications.add(application);
+            offers.add(offer);
+        }
+
+        applicantRepository.saveAll(newApplicants);
+        loanApplicationRepository.saveAll(applications);
+        loanOfferRepository.saveAll(offers);
+
+        for (int n = 0; n < acceptedIndexes.size(); n++) {
+            int i = acceptedIndexes.get(n);
+            results[i] = LoanApplicationBatchItemDto.builder().index(i).result(toResponse(offers.get(n))).build();
+        }
+
+        return newApplicants.size();
+    }
 
-        LoanOfferDto offerDto = "APPROVED".equals(offer.getDecision()) ? loanMapper.toLoanOfferDto(offer) : null;
+    private Map<String, String> validate(LoanApplicationRequestDto req) {
+        if (req == null) {
+            Map<String, String> errors = new HashMap<>();
+            errors.put("request", "Application must not be null");
+            return errors;
+        }
+        return requestValidator.errors(req);
+    }
+
+    private LoanApplicationResponseDto toResponse(LoanOffer offer) {
+        LoanOfferDto offerDto = LoanDecision.APPROVED.equals(offer.getDecision()) ? loanMapper.toLoanOfferDto(offer) : null;
 
         return LoanApplicationResponseDto.builder()
+                .applicationId(offer.getApplication().getReference())
                 .decision(offer.getDecision())
                 .reason(offer.getReason())
                 .offer(offerDto)
                 .build();
     }
 
-    private LoanOffer evaluateDecision(LoanApplication app) {
-        int creditLines = rng.nextInt(101);
+    private int fetchCreditLines(LoanApplicationRequestDto req) {
+        CreditInquiry inquiry = new CreditInquiry(req.getSsn(), blindIndexUtil.hashSsn(req.getSsn()));
+        return metrics.time(LoanMetrics.Stage.CREDIT, () -> creditDataProvider.fetch(inquiry).creditLines());
+    }
+
+    private LoanOffer evaluateDecision(LoanApplication app, int creditLines) {
         app.setCreditLines(creditLines);
 
-        BigDecimal amount = app.getRequestedAmount();
-        String decision;
-        String reason = null;
-        BigDecimal interestRate = null;
-        Integer termMonths = null;
-        BigDecimal monthlyPayment = null;
-
-        if (amount.compareTo(MIN_AMOUNT) < 0 || amount.compareTo(MAX_AMOUNT) > 0) {
-            decision = "DENIED";
-            reason = "Requested amount outside 10k–50k range";
-        } else if (creditLines > 50) {
-            decision = "DENIED";
-            reason = "Credit lines > 50";
-        } else {
-            decision = "APPROVED";
-            interestRate = creditLines < 10 ? BigDecimal.valueOf(0.10) : BigDecimal.valueOf(0.20);
-            termMonths = creditLines < 10 ? 36 : 24;
-            monthlyPayment = amortizedMonthly(amount, interestRate, termMonths);
-        }
+        LoanDecision result = metrics.time(LoanMetrics.Stage.DECISION,
+                () -> decisionEngine.evaluate(toCents(app.getRequestedAmount()), creditLines));
+        metrics.recordDecision(result);
+        RateTier tier = result.tier();
 
-        log.debug("Computed offer: decision={}, rate={}, term={}", decision, interestRate, termMonths);
+        log.debug("Computed offer: decision={}, rate={}, term={}, rules={}", result.decision(),
+                tier != null ? tier.annualRate() : null, tier != null ? tier.termMonths() : null, result.rulesVersion());
 
         return LoanOffer.builder()
                 .application(app)
-                .decision(decision)
-                .reason(reason)
-                .interestRate(interestRate)
-                .termMonths(termMonths)
-                .monthlyPayment(monthlyPayment)
+                .decision(result.decision())
+                .reason(result.reason())
+                .interestRate(tier != null ? tier.annualRate() : null)
+                .termMonths(tier != null ? tier.termMonths() : null)
+                .monthlyPayment(result.approved() ? BigDecimal.valueOf(result.monthlyPaymentCents(), 2) : null)
+                .rulesVersion(result.rulesVersion())
                 .requestedAmount(app.getRequestedAmount())
+                // Same month as the application, so on PostgreSQL both land in the same partition
+                .createdAt(app.getCreatedAt())
                 .build();
     }
 
-    private BigDecimal amortizedMonthly(BigDecimal principal, BigDecimal rate, int term) {
-        BigDecimal monthlyRate = rate.divide(BigDecimal.valueOf(12), 10, RoundingMode.HALF_UP);
-        double r = monthlyRate.doubleValue();
-        double p = principal.doubleValue();
-        double payment = p * r / (1 - Math.pow(1 + r, -term));
-        return BigDecimal.valueOf(payment).setScale(2, RoundingMode.HALF_UP);
+    private static long toCents(BigDecimal amount) {
+        BigDecimal cents = amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP);
+        return cents.bitLength() < 64 ? cents.longValue() : (cents.signum() > 0 ? Long.MAX_VALUE : Long.MIN_VALUE);
     }
 }
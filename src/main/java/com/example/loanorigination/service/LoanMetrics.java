@@ -0,0 +1,61 @@
+package com.example.loanorigination.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Meters for the apply hot path.
+ * {@code loan.apply.stage} times each stage of an application with a percentile histogram, so the
+ * Prometheus endpoint shows which stage consumes the p99 budget. {@code loan.decisions} counts
+ * outcomes by decision and reason code.
+ */
+@Component
+public class LoanMetrics {
+
+    public enum Stage {
+        CREDIT("credit"),
+        APPLICANT("applicant"),
+        APPLICATION_SAVE("application_save"),
+        DECISION("decision"),
+        OFFER_SAVE("offer_save");
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final MeterRegistry registry;
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+
+    public LoanMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder("loan.apply.stage")
+                    .description("Time spent in each stage of a loan application")
+                    .tag("stage", stage.tag)
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+    }
+
+    public <T> T time(Stage stage, Supplier<T> work) {
+        return stageTimers.get(stage).record(work);
+    }
+
+    public void recordDecision(LoanDecision decision) {
+        Counter.builder("loan.decisions")
+                .description("Loan decisions by outcome and reason")
+                .tag("decision", decision.decision())
+                .tag("reason", decision.reasonCode())
+                .register(registry)
+                .increment();
+    }
+}
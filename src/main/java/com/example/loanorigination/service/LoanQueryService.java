@@ -0,0 +1,116 @@
+package com.example.loanorigination.service;
+
+import com.example.loanorigination.dto.ApplicationSummaryDto;
+import com.example.loanorigination.dto.KeysetPageDto;
+import com.example.loanorigination.dto.OfferSummaryDto;
+import com.example.loanorigination.exception.InvalidRequestException;
+import com.example.loanorigination.exception.ResourceNotFoundException;
+import com.example.loanorigination.repository.ApplicantRepository;
+import com.example.loanorigination.repository.LoanApplicationRepository;
+import com.example.loanorigination.repository.LoanOfferRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Back-office reads of an applicant's applications and offers.
+ * Pages are keyset-paginated on {@code (created_at, id)}, newest first, so every page costs one index range scan
+ * regardless of depth. Rows are selected straight into record projections; no entities are loaded.
+ * When {@link PartitionArchiver} is active, reads cover its retention window and the lower bound on
+ * {@code created_at} lets PostgreSQL skip the monthly partitions outside it. Otherwise nothing has been archived
+ * and reads start from 1970, before any row.
+ */
+@Service
+@Transactional(readOnly = true)
+public class LoanQueryService {
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
+    // Timestamp.valueOf overflows on LocalDateTime.MIN, so the open bound needs a real date; same as
+    // DecisionExportService
+    private static final LocalDateTime MIN_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ApplicantRepository applicantRepository;
+    private final LoanApplicationRepository loanApplicationRepository;
+    private final LoanOfferRepository loanOfferRepository;
+    private final Optional<PartitionArchiver> archiver;
+
+    public LoanQueryService(ApplicantRepository applicantRepository,
+                            LoanApplicationRepository loanApplicationRepository,
+                            LoanOfferRepository loanOfferRepository,
+                            Optional<PartitionArchiver> archiver) {
+        this.applicantRepository = applicantRepository;
+        this.loanApplicationRepository = loanApplicationRepository;
+        this.loanOfferRepository = loanOfferRepository;
+        this.archiver = archiver;
+    }
+
+    public KeysetPageDto<ApplicationSummaryDto> applications(Long applicantId, String after, Integer size) {
+        int pageSize = pageSize(size);
+        // One extra row tells us whether there is a next page
+        Limit limit = Limit.of(pageSize + 1);
+        LocalDateTime since = retainedSince();
+        List<ApplicationSummaryDto> rows;
+        if (after == null) {
+            rows = loanApplicationRepository.findSummariesByApplicant(applicantId, since, limit);
+        } else {
+            KeysetCursor cursor = KeysetCursor.decode(after);
+            rows = loanApplicationRepository.findSummariesByApplicantBefore(
+                    applicantId, since, cursor.createdAt(), cursor.id(), limit);
+        }
+        return page(applicantId, rows, pageSize, ApplicationSummaryDto::createdAt, ApplicationSummaryDto::id);
+    }
+
+    public KeysetPageDto<OfferSummaryDto> offers(Long applicantId, String after, Integer size) {
+        int pageSize = pageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        LocalDateTime since = retainedSince();
+        List<OfferSummaryDto> rows;
+        if (after == null) {
+            rows = loanOfferRepository.findSummariesByApplicant(applicantId, since, limit);
+        } else {
+            KeysetCursor cursor = KeysetCursor.decode(after);
+            rows = loanOfferRepository.findSummariesByApplicantBefore(
+                    applicantId, since, cursor.createdAt(), cursor.id(), limit);
+        }
+        return page(applicantId, rows, pageSize, OfferSummaryDto::createdAt, OfferSummaryDto::id);
+    }
+
+    private <T> KeysetPageDto<T> page(Long applicantId, List<T> rows, int pageSize,
+                                      Function<T, LocalDateTime> createdAt, Function<T, Long> id) {
+        // Only an empty page needs the extra lookup to tell "no rows" from "no applicant"
+        if (rows.isEmpty() && !applicantRepository.existsById(applicantId)) {
+            throw new ResourceNotFoundException("Applicant " + applicantId + " not found");
+        }
+        if (rows.size() <= pageSize) {
+            return KeysetPageDto.<T>builder().items(rows).build();
+        }
+        List<T> items = rows.subList(0, pageSize);
+        T last = items.get(pageSize - 1);
+        return KeysetPageDto.<T>builder()
+                .items(items)
+                .nextCursor(new KeysetCursor(createdAt.apply(last), id.apply(last)).encode())
+                .build();
+    }
+
+    private LocalDateTime retainedSince() {
+        return archiver.map(active -> active.retainedSince(LocalDate.now())).orElse(MIN_TIME);
+    }
+
+    private static int pageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return size;
+    }
+}
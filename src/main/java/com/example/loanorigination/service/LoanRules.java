@@ -0,0 +1,153 @@
+package com.example.loanorigination.service;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * A compiled, immutable version of the approval and pricing rules.
+ * Credit-line tiers are expanded into an array indexed by credit-line count, so pricing is a bounds check
+ * and an array read. Denials are preallocated per version. {@link LoanDecisionEngine} holds the active
+ * instance and swaps it atomically when {@link LoanRulesLoader} reloads the definition.
+ */
+public final class LoanRules {
+
+    /**
+     * Rules as written in {@code loan-rules.yml}: an approval band for the requested amount, and credit-line
+     * tiers in ascending order of {@code maxCreditLines}. More credit lines than the last tier allows is a denial.
+     */
+    public record Definition(String version, AmountBand amount, List<CreditLineTier> creditLineTiers) {
+    }
+
+    public record AmountBand(BigDecimal min, BigDecimal max) {
+    }
+
+    public record CreditLineTier(int maxCreditLines, BigDecimal annualRate, int termMonths) {
+    }
+
+    // Bounds the lookup array
+    static final int MAX_CREDIT_LINES_LIMIT = 10_000;
+
+    public static final LoanRules DEFAULT = compile(new Definition("default",
+            new AmountBand(BigDecimal.valueOf(10_000), BigDecimal.valueOf(50_000)),
+            List.of(new CreditLineTier(9, RateTier.LOW_CREDIT_LINES.annualRate(), RateTier.LOW_CREDIT_LINES.termMonths()),
+                    new CreditLineTier(50, RateTier.STANDARD.annualRate(), RateTier.STANDARD.termMonths()))));
+
+    private final String version;
+    private final long minAmountCents;
+    private final long maxAmountCents;
+    private final RateTier[] tierByCreditLines;
+    private final List<RateTier> tiers;
+    private final LoanDecision amountOutOfRange;
+    private final LoanDecision tooManyCreditLines;
+
+    private LoanRules(String version, long minAmountCents, long maxAmountCents, RateTier[] tierByCreditLines,
+                      List<RateTier> tiers) {
+        this.version = version;
+        this.minAmountCents = minAmountCents;
+        this.maxAmountCents = maxAmountCents;
+        this.tierByCreditLines = tierByCreditLines;
+        this.tiers = tiers;
+        this.amountOutOfRange = LoanDecision.deny("amount_out_of_range",
+                "Requested amount outside " + shortAmount(minAmountCents) + "–" + shortAmount(maxAmountCents) + " range",
+                version);
+        this.tooManyCreditLines = LoanDecision.deny("too_many_credit_lines",
+                "Credit lines > " + (tierByCreditLines.length - 1), version);
+    }
+
+    /**
+     * Validates a definition and compiles it. Throws {@link IllegalArgumentException} describing the first problem.
+     */
+    public static LoanRules compile(Definition definition) {
+        if (definition == null || definition.version() == null || definition.version().isBlank()) {
+            throw new IllegalArgumentException("Rules must have a version");
+        }
+        AmountBand amount = definition.amount();
+        if (amount == null || amount.min() == null || amount.max() == null || amount.min().compareTo(amount.max()) > 0) {
+            throw new IllegalArgumentException("Rules " + definition.version() + ": amount band needs min <= max");
+        }
+        List<CreditLineTier> tierDefinitions = definition.creditLineTiers();
+        if (tierDefinitions == null || tierDefinitions.isEmpty()) {
+            throw new IllegalArgumentException("Rules " + definition.version() + ": at least one credit-line tier is required");
+        }
+
+        int maxCreditLines = tierDefinitions.get(tierDefinitions.size() - 1).maxCreditLines();
+        if (maxCreditLines < 0 || maxCreditLines > MAX_CREDIT_LINES_LIMIT) {
+            throw new IllegalArgumentException("Rules " + definition.version() + ": maxCreditLines must be between 0 and "
+                    + MAX_CREDIT_LINES_LIMIT);
+        }
+        RateTier[] byCreditLines = new RateTier[maxCreditLines + 1];
+        LinkedHashSet<RateTier> distinct = new LinkedHashSet<>();
+        int from = 0;
+        for (CreditLineTier tierDefinition : tierDefinitions) {
+            if (tierDefinition.maxCreditLines() < from) {
+                throw new IllegalArgumentException("Rules " + definition.version()
+                        + ": credit-line tiers must be in strictly ascending order of maxCreditLines");
+            }
+            if (tierDefinition.annualRate() == null || tierDefinition.annualRate().signum() <= 0
+                    || tierDefinition.termMonths() <= 0) {
+                throw new IllegalArgumentException("Rules " + definition.version()
+                        + ": each tier needs a positive annualRate and termMonths");
+            }
+            RateTier tier = canonical(RateTier.of(tierDefinition.annualRate(), tierDefinition.termMonths()));
+            distinct.add(tier);
+            Arrays.fill(byCreditLines, from, tierDefinition.maxCreditLines() + 1, tier);
+            from = tierDefinition.maxCreditLines() + 1;
+        }
+
+        return new LoanRules(definition.version(), toCents(amount.min()), toCents(amount.max()), byCreditLines,
+                List.copyOf(distinct));
+    }
+
+    LoanDecision evaluate(long amountCents, int creditLines, AmortizationTable amortizationTable) {
+        if (amountCents < minAmountCents || amountCents > maxAmountCents) {
+            return amountOutOfRange;
+        }
+        if (creditLines >= tierByCreditLines.length) {
+            return tooManyCreditLines;
+        }
+        RateTier tier = tierByCreditLines[Math.max(creditLines, 0)];
+        return LoanDecision.approve(tier, amortizationTable.monthlyPaymentCents(amountCents, tier), version);
+    }
+
+    public String version() {
+        return version;
+    }
+
+    public long minAmountCents() {
+        return minAmountCents;
+    }
+
+    public long maxAmountCents() {
+        return maxAmountCents;
+    }
+
+    public int maxCreditLines() {
+        return tierByCreditLines.length - 1;
+    }
+
+    /** The distinct pricing tiers of this version, for {@link AmortizationTable#refresh}. */
+    public List<RateTier> tiers() {
+        return tiers;
+    }
+
+    // Reuses the shared constants when a tier matches, so their BigDecimal rates keep a stable scale
+    private static RateTier canonical(RateTier tier) {
+        for (RateTier known : RateTier.DEFAULT_TIERS) {
+            if (known.termMonths() == tier.termMonths() && known.annualRate().compareTo(tier.annualRate()) == 0) {
+                return known;
+            }
+        }
+        return tier;
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).longValueExact();
+    }
+
+    private static String shortAmount(long cents) {
+        long units = cents / 100;
+        return cents % 100_000 == 0 ? (units / 1000) + "k" : BigDecimal.valueOf(cents, 2).toPlainString();
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.loanorigination.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Loads the approval and pricing rules from {@code loan.rules.location} (YAML, under a {@code loan-rules} key)
+ * into {@link LoanDecisionEngine}. The file is checked every {@code loan.rules.refresh-interval} and recompiled
+ * when its modification time changes, so pricing changes need no redeploy. A definition that fails to parse or
+ * validate is logged and ignored; the previous version stays active. At startup an invalid file fails fast.
+ */
+@Slf4j
+@Component
+@RegisterReflectionForBinding(LoanRules.Definition.class)
+public class LoanRulesLoader {
+
+    private static final String ROOT = "loan-rules";
+
+    private final LoanDecisionEngine decisionEngine;
+    private final Resource resource;
+    private long lastModified;
+
+    public LoanRulesLoader(LoanDecisionEngine decisionEngine,
+                           ResourceLoader resourceLoader,
+                           @Value("${loan.rules.location:classpath:loan-rules.yml}") String location) {
+        this.decisionEngine = decisionEngine;
+        this.resource = resourceLoader.getResource(location);
+        this.lastModified = lastModified();
+        LoanRules rules = load();
+        decisionEngine.apply(rules);
+        log.info("Loaded loan rules version {} from {}", rules.version(), location);
+    }
+
+    /**
+     * Reloads the rules if the file changed since the last load. Returns true if a new version was applied.
+     */
+    @Scheduled(fixedDelayString = "${loan.rules.refresh-interval:30s}")
+    public synchronized boolean refresh() {
+        long modified = lastModified();
+        if (modified == lastModified) {
+            return false;
+        }
+        lastModified = modified;
+        LoanRules current = decisionEngine.rules();
+        try {
+            LoanRules rules = load();
+            decisionEngine.apply(rules);
+            log.info("Loan rules changed from version {} to {}", current.version(), rules.version());
+            return true;
+        } catch (RuntimeException e) {
+            log.error("Ignoring invalid loan rules in {}; version {} stays active", resource, current.version(), e);
+            return false;
+        }
+    }
+
+    private LoanRules load() {
+        try {
+            List<PropertySource<?>> sources = new YamlPropertySourceLoader().load(ROOT, resource);
+            LoanRules.Definition definition = new Binder(ConfigurationPropertySources.from(sources))
+                    .bind(ROOT, LoanRules.Definition.class)
+                    .orElseThrow(() -> new IllegalArgumentException("No " + ROOT + " section in " + resource));
+            return LoanRules.compile(definition);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read loan rules from " + resource, e);
+        }
+    }
+
+    private long lastModified() {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+}
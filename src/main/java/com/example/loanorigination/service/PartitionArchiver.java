@@ -0,0 +1,246 @@
+package com.example.loanorigination.service;
+
+import com.example.loanorigination.util.CsvUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Maintains the monthly partitions of {@code loan_application} and {@code loan_offer} that
+ * {@code db/vendor/postgresql} creates. Every run:
+ * <ul>
+ *   <li>creates the partitions for the current month and the next {@code months-ahead}, so rows never land in
+ *       the default partition;</li>
+ *   <li>for each month that ended more than {@code retention} ago, writes the partition to
+ *       {@code <directory>/<partition>.csv.gz}, then detaches and drops it.</li>
+ * </ul>
+ * A partition is dropped only after its file is complete and synced. If a run stops in between, the next run
+ * rewrites the file. Does nothing on databases where the tables are not partitioned, such as H2.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "loan.archive.enabled", havingValue = "true")
+public class PartitionArchiver {
+
+    // Offers first, so a run that stops half way never leaves offers whose applications are gone
+    static final List<String> TABLES = List.of("loan_offer", "loan_application");
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("'_p'yyyy_MM");
+    private static final Pattern PARTITION_NAME = Pattern.compile("(.+)_p(\\d{4})_(\\d{2})");
+
+    private static final String PARTITIONED_SQL = """
+            SELECT count(*) FROM pg_partitioned_table pt
+            JOIN pg_class c ON c.oid = pt.partrelid
+            WHERE c.relname = 'loan_application'
+            """;
+
+    private static final String PARTITIONS_SQL = """
+            SELECT c.relname FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            JOIN pg_class p ON p.oid = i.inhparent
+            WHERE p.relname = ?
+            ORDER BY c.relname
+            """;
+
+    record Archived(String partition, Path file, long rows) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Path directory;
+    private final Duration retention;
+    private final int monthsAhead;
+    private final int fetchSize;
+
+    public PartitionArchiver(JdbcTemplate jdbcTemplate,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${loan.archive.directory:data/archive}") String directory,
+                             @Value("${loan.archive.retention:90d}") Duration retention,
+                             @Value("${loan.archive.months-ahead:2}") int monthsAhead,
+                             @Value("${loan.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.directory = Paths.get(directory);
+        this.retention = retention;
+        this.monthsAhead = monthsAhead;
+        this.fetchSize = fetchSize;
+    }
+
+    @Scheduled(cron = "${loan.archive.cron:0 30 2 * * *}")
+    public void run() {
+        if (!isPartitioned()) {
+            log.debug("Loan tables are not partitioned; nothing to archive");
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        createPartitions(YearMonth.from(today), monthsAhead);
+        List<Archived> archived = archiveExpired(today);
+        if (!archived.isEmpty()) {
+            log.info("Archived {} partitions older than {}", archived.size(), retention);
+        }
+    }
+
+    boolean isPartitioned() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equals(product)) {
+            return false;
+        }
+        Integer partitioned = jdbcTemplate.queryForObject(PARTITIONED_SQL, Integer.class);
+        return partitioned != null && partitioned > 0;
+    }
+
+    /**
+     * Creates the partitions for {@code from} and the {@code ahead} months after it, where missing.
+     */
+    void createPartitions(YearMonth from, int ahead) {
+        for (int i = 0; i <= ahead; i++) {
+            YearMonth month = from.plusMonths(i);
+            for (String table : TABLES) {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(table, month)
+                        + " PARTITION OF " + table
+                        + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+            }
+            // References are unique within a month; see V11
+            String applications = partitionName("loan_application", month);
+            jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS " + applications + "_reference ON "
+                    + applications + " (reference)");
+        }
+    }
+
+    /**
+     * Archives and drops every monthly partition that ended on or before {@code today - retention}.
+     */
+    List<Archived> archiveExpired(LocalDate today) {
+        YearMonth firstKept = firstRetainedMonth(today, retention);
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create archive directory " + directory, e);
+        }
+
+        List<Archived> archived = new ArrayList<>();
+        for (String table : TABLES) {
+            for (String partition : jdbcTemplate.queryForList(PARTITIONS_SQL, String.class, table)) {
+                Matcher name = PARTITION_NAME.matcher(partition);
+                if (!name.matches() || !name.group(1).equals(table)) {
+                    continue; // the default partition
+                }
+                YearMonth month = YearMonth.of(Integer.parseInt(name.group(2)), Integer.parseInt(name.group(3)));
+                if (month.isBefore(firstKept)) {
+                    archived.add(archive(table, partition));
+                }
+            }
+        }
+        return archived;
+    }
+
+    /**
+     * Start of the oldest month a run on {@code today} keeps. Queries that bound {@code created_at} from here
+     * see every row that has not been archived, and PostgreSQL prunes the older partitions from their plans.
+     */
+    static LocalDateTime retainedSince(LocalDate today, Duration retention) {
+        return firstRetainedMonth(today, retention).atDay(1).atStartOfDay();
+    }
+
+    LocalDateTime retainedSince(LocalDate today) {
+        return retainedSince(today, retention);
+    }
+
+    private static YearMonth firstRetainedMonth(LocalDate today, Duration retention) {
+        return YearMonth.from(today.minusDays(retention.toDays()));
+    }
+
+    static String partitionName(String table, YearMonth month) {
+        return table + month.format(PARTITION_SUFFIX);
+    }
+
+    private Archived archive(String table, String partition) {
+        Path file = directory.resolve(partition + ".csv.gz");
+        Path partial = directory.resolve(partition + ".csv.gz.partial");
+
+        // A transaction keeps the connection out of autocommit, which PostgreSQL requires to honour the fetch size
+        Long rows = transactionTemplate.execute(status -> copy(partition, partial));
+        try {
+            Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot move " + partial + " to " + file, e);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition);
+            jdbcTemplate.execute("DROP TABLE " + partition);
+        });
+        log.info("Archived {} rows of {} to {}", rows, partition, file);
+        return new Archived(partition, file, rows == null ? 0 : rows);
+    }
+
+    private long copy(String partition, Path target) {
+        try (FileOutputStream out = new FileOutputStream(target.toFile());
+             GZIPOutputStream gzip = new GZIPOutputStream(out, 64 * 1024);
+             Writer writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8), 64 * 1024)) {
+            long[] rows = {0};
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement("SELECT * FROM " + partition
+                        + " ORDER BY created_at, id", ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                return statement;
+            }, (RowCallbackHandler) rs -> {
+                try {
+                    ResultSetMetaData metaData = rs.getMetaData();
+                    int columns = metaData.getColumnCount();
+                    if (rows[0] == 0) {
+                        for (int i = 1; i <= columns; i++) {
+                            writer.write((i > 1 ? "," : "") + CsvUtil.escape(metaData.getColumnName(i)));
+                        }
+                        writer.write('\n');
+                    }
+                    for (int i = 1; i <= columns; i++) {
+                        writer.write((i > 1 ? "," : "") + CsvUtil.escape(rs.getString(i)));
+                    }
+                    writer.write('\n');
+                    rows[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+            gzip.finish();
+            out.getFD().sync();
+            return rows[0];
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing archive " + target, e);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.loanorigination.service;
+
+import com.example.loanorigination.entity.Applicant;
+import com.example.loanorigination.entity.LoanApplication;
+import com.example.loanorigination.entity.LoanOffer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * A decided application waiting to be written by {@link WriteBehindPersister}.
+ * Holds everything needed to recreate the applicant, application and offer rows. The SSN is kept
+ * only in its encrypted form and as its blind index, so journal entries never contain plaintext SSNs.
+ */
+public record PendingDecision(
+        String reference,
+        String name,
+        String address,
+        String email,
+        String phone,
+        String encryptedSsn,
+        String ssnHash,
+        BigDecimal requestedAmount,
+        Integer creditLines,
+        String decision,
+        String reason,
+        BigDecimal interestRate,
+        Integer termMonths,
+        BigDecimal monthlyPayment,
+        String rulesVersion,
+        LocalDateTime createdAt) {
+
+    static PendingDecision of(Applicant applicant, LoanApplication application, LoanOffer offer) {
+        return new PendingDecision(
+                application.getReference(),
+                applicant.getName(),
+                applicant.getAddress(),
+                applicant.getEmail(),
+                applicant.getPhone(),
+                applicant.getSsn(),
+                applicant.getSsnHash(),
+                application.getRequestedAmount(),
+                application.getCreditLines(),
+                offer.getDecision(),
+                offer.getReason(),
+                offer.getInterestRate(),
+                offer.getTermMonths(),
+                offer.getMonthlyPayment(),
+                offer.getRulesVersion(),
+                application.getCreatedAt());
+    }
+
+    Applicant toApplicant() {
+        return Applicant.builder()
+                .name(name)
+                .address(address)
+                .email(email)
+                .phone(phone)
+                .ssn(encryptedSsn)
+                .ssnHash(ssnHash)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    LoanApplication toApplication(Applicant applicant) {
+        return LoanApplication.builder()
+                .reference(reference)
+                .applicant(applicant)
+                .requestedAmount(requestedAmount)
+                .creditLines(creditLines)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    LoanOffer toOffer(LoanApplication application) {
+        return LoanOffer.builder()
+                .application(application)
+                .requestedAmount(requestedAmount)
+                .decision(decision)
+                .reason(reason)
+                .interestRate(interestRate)
+                .termMonths(termMonths)
+                .monthlyPayment(monthlyPayment)
+                .rulesVersion(rulesVersion)
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.loanorigination.service;
+
+import com.example.loanorigination.util.RandomSource;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Stand-in for a bureau: a uniformly random number of credit lines between 0 and 100.
+ * Used unless {@code loan.credit.provider=http}.
+ */
+@RequiredArgsConstructor
+public class RandomCreditDataProvider implements CreditDataProvider {
+
+    static final int MAX_CREDIT_LINES = 100;
+
+    private final RandomSource randomSource;
+
+    @Override
+    public CreditProfile fetch(CreditInquiry inquiry) {
+        return new CreditProfile(randomSource.generator().nextInt(MAX_CREDIT_LINES + 1));
+    }
+}
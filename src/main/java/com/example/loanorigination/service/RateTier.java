@@ -0,0 +1,22 @@
+package com.example.loanorigination.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * An approved pricing tier: annual rate and term.
+ * The BigDecimal rate is created once per tier so approvals don't allocate it per call.
+ */
+public record RateTier(BigDecimal annualRate, int termMonths, double monthlyRate) {
+
+    public static final RateTier LOW_CREDIT_LINES = RateTier.of(BigDecimal.valueOf(0.10), 36);
+    public static final RateTier STANDARD = RateTier.of(BigDecimal.valueOf(0.20), 24);
+    public static final List<RateTier> DEFAULT_TIERS = List.of(LOW_CREDIT_LINES, STANDARD);
+
+    public static RateTier of(BigDecimal annualRate, int termMonths) {
+        // Monthly rate keeps the 10-digit rounding the service has always used
+        double monthlyRate = annualRate.divide(BigDecimal.valueOf(12), 10, RoundingMode.HALF_UP).doubleValue();
+        return new RateTier(annualRate, termMonths, monthlyRate);
+    }
+}
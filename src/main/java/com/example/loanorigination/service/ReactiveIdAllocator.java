@@ -0,0 +1,61 @@
+package com.example.loanorigination.service;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hands out ids for R2DBC inserts with the same pooled-lo scheme Hibernate uses for the JPA entities:
+ * each {@code nextval} reserves {@link #BLOCK_SIZE} ids starting at the returned value, matching the sequences'
+ * {@code INCREMENT BY 50}. JPA and reactive writers can therefore share the sequences without colliding.
+ * Most calls are served from memory without a database round trip.
+ */
+@Component
+@Profile("reactive")
+public class ReactiveIdAllocator {
+
+    static final int BLOCK_SIZE = 50;
+
+    private record Block(AtomicLong next, long limit) {
+    }
+
+    private static final Block EXHAUSTED = new Block(new AtomicLong(), 0);
+
+    private final DatabaseClient databaseClient;
+    private final boolean postgres;
+    private final Map<String, AtomicReference<Block>> blocks = new ConcurrentHashMap<>();
+
+    public ReactiveIdAllocator(DatabaseClient databaseClient, ConnectionFactory connectionFactory) {
+        this.databaseClient = databaseClient;
+        this.postgres = connectionFactory.getMetadata().getName().toLowerCase().contains("postgres");
+    }
+
+    public Mono<Long> next(String sequence) {
+        AtomicReference<Block> current = blocks.computeIfAbsent(sequence, name -> new AtomicReference<>(EXHAUSTED));
+        Block block = current.get();
+        long id = block.next().getAndIncrement();
+        if (id < block.limit()) {
+            return Mono.just(id);
+        }
+        // Concurrent callers may each fetch a block; the one installed last serves later calls and the
+        // unused remainder of the others is skipped, as with any sequence gap
+        return nextval(sequence).map(lo -> {
+            current.set(new Block(new AtomicLong(lo + 1), lo + BLOCK_SIZE));
+            return lo;
+        });
+    }
+
+    private Mono<Long> nextval(String sequence) {
+        String sql = postgres ? "SELECT nextval('" + sequence + "')" : "SELECT NEXT VALUE FOR " + sequence;
+        return databaseClient.sql(sql)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.loanorigination.service;
+
+import com.example.loanorigination.dto.LoanApplicationRequestDto;
+import com.example.loanorigination.dto.LoanApplicationResponseDto;
+import com.example.loanorigination.repository.reactive.ApplicantRow;
+import com.example.loanorigination.repository.reactive.LoanApplicationRow;
+import com.example.loanorigination.repository.reactive.LoanOfferRow;
+import com.example.loanorigination.repository.reactive.ReactiveApplicantRepository;
+import com.example.loanorigination.util.BlindIndexUtil;
+import com.example.loanorigination.util.DataMaskingUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking version of {@link LoanDecisionService#processLoanApplication}, active in the {@code reactive}
+ * profile. The steps are the same: pull credit, decide with the shared rules ({@link LoanDecisionService#decide}),
+ * resolve or insert the applicant in its own transaction, then insert the application and offer in one short
+ * transaction. Every step is a reactive call on R2DBC or the bureau client, so no thread waits on I/O.
+ */
+@Slf4j
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveLoanDecisionService {
+
+    static final String APPLICANT_SEQ = "applicant_seq";
+    static final String APPLICATION_SEQ = "loan_application_seq";
+    static final String OFFER_SEQ = "loan_offer_seq";
+
+    private final LoanDecisionService decisionService;
+    private final CreditDataProvider creditDataProvider;
+    private final BlindIndexUtil blindIndexUtil;
+    private final ReactiveApplicantRepository applicantRepository;
+    private final R2dbcEntityTemplate template;
+    private final ReactiveIdAllocator ids;
+    private final TransactionalOperator transactionalOperator;
+
+    public Mono<LoanApplicationResponseDto> processLoanApplication(LoanApplicationRequestDto req) {
+        String ssnHash = blindIndexUtil.hashSsn(req.getSsn());
+        return Mono.fromFuture(() -> creditDataProvider.fetchAsync(new CreditInquiry(req.getSsn(), ssnHash)))
+                .map(profile -> decisionService.decide(req, ssnHash, profile.creditLines()))
+                .flatMap(decision -> resolveApplicantId(decision)
+                        .flatMap(applicantId -> write(decision, applicantId))
+                        .thenReturn(decision))
+                .doOnNext(decision -> log.info("Decision: applicant={}, decision={}", req.getName(), decision.decision()))
+                .map(decisionService::toResponse);
+    }
+
+    private Mono<Long> resolveApplicantId(PendingDecision decision) {
+        return applicantRepository.findFirstBySsnHashOrEmail(decision.ssnHash(), decision.email())
+                .map(ApplicantRow::id)
+                .switchIfEmpty(Mono.defer(() -> insertApplicant(decision)));
+    }
+
+    private Mono<Long> insertApplicant(PendingDecision decision) {
+        return ids.next(APPLICANT_SEQ)
+                .flatMap(id -> template.insert(new ApplicantRow(id, decision.name(), decision.address(),
+                        decision.email(), decision.phone(), decision.encryptedSsn(), decision.ssnHash(),
+                        decision.createdAt())))
+                .as(transactionalOperator::transactional)
+                .map(ApplicantRow::id)
+                // A concurrent application for the same person won the insert; use its row
+                .onErrorResume(DataIntegrityViolationException.class, e -> {
+                    log.debug("Applicant {} was created concurrently; using existing row",
+                            DataMaskingUtil.maskEmail(decision.email()));
+                    return applicantRepository.findFirstBySsnHashOrEmail(decision.ssnHash(), decision.email())
+                            .map(ApplicantRow::id)
+                            .switchIfEmpty(Mono.error(e));
+                });
+    }
+
+    private Mono<Void> write(PendingDecision decision, long applicantId) {
+        return Mono.zip(ids.next(APPLICATION_SEQ), ids.next(OFFER_SEQ))
+                .flatMap(id -> template.insert(new LoanApplicationRow(id.getT1(), decision.reference(), applicantId,
+                                decision.requestedAmount(), decision.creditLines(), decision.createdAt()))
+                        .then(template.insert(new LoanOfferRow(id.getT2(), id.getT1(), decision.requestedAmount(),
+                                decision.decision(), decision.reason(), decision.interestRate(),
+                                decision.termMonths(), decision.monthlyPayment(), decision.rulesVersion(),
+                                decision.createdAt()))))
+                .as(transactionalOperator::transactional)
+                .then();
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.loanorigination.service;
+
+import com.example.loanorigination.entity.Applicant;
+import com.example.loanorigination.repository.ApplicantRepository;
+import com.example.loanorigination.util.BlindIndexUtil;
+import com.example.loanorigination.util.CryptoUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fills {@code applicant.ssn_hash} for rows written before the blind index existed.
+ * Walks the table by id in chunks, decrypting each chunk's SSNs in one batch and committing per chunk,
+ * so it can be interrupted and rerun safely. Runs once at startup unless disabled.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "loan.blind-index.backfill.enabled", havingValue = "true", matchIfMissing = true)
+public class SsnBlindIndexBackfillJob implements ApplicationRunner {
+
+    static final int CHUNK_SIZE = 500;
+
+    private final ApplicantRepository applicantRepository;
+    private final CryptoUtil cryptoUtil;
+    private final BlindIndexUtil blindIndexUtil;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        backfill();
+    }
+
+    public int backfill() {
+        long lastId = 0L;
+        int updated = 0;
+
+        while (true) {
+            long afterId = lastId;
+            List<Applicant> chunk = transactionTemplate.execute(status -> backfillChunk(afterId));
+            if (chunk == null || chunk.isEmpty()) {
+                break;
+            }
+            updated += chunk.size();
+            lastId = chunk.get(chunk.size() - 1).getId();
+        }
+
+        if (updated > 0) {
+            log.info("Backfilled SSN blind index for {} applicants", updated);
+        }
+        return updated;
+    }
+
+    private List<Applicant> backfillChunk(long afterId) {
+        List<Applicant> chunk = applicantRepository
+                .findBySsnHashIsNullAndIdGreaterThanOrderByIdAsc(afterId, Limit.of(CHUNK_SIZE));
+
+        List<String> encrypted = new ArrayList<>(chunk.size());
+        for (Applicant applicant : chunk) {
+            encrypted.add(applicant.getSsn());
+        }
+
+        List<String> ssns = cryptoUtil.decryptAll(encrypted);
+        for (int i = 0; i < chunk.size(); i++) {
+            chunk.get(i).setSsnHash(blindIndexUtil.hashSsn(ssns.get(i)));
+        }
+        return chunk;
+    }
+}
@@ -0,0 +1,360 @@
+package com.example.loanorigination.service;
+
+import com.example.loanorigination.entity.Applicant;
+import com.example.loanorigination.entity.LoanApplication;
+import com.example.loanorigination.entity.LoanOffer;
+import com.example.loanorigination.exception.ServiceBusyException;
+import com.example.loanorigination.repository.ApplicantRepository;
+import com.example.loanorigination.repository.LoanApplicationRepository;
+import com.example.loanorigination.repository.LoanOfferRepository;
+import com.example.loanorigination.util.CryptoUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opt-in write-behind persistence for /apply ({@code loan.write-behind.enabled}).
+ * Decisions are journaled locally and queued, and the client is answered without touching the database.
+ * A single writer thread drains the queue in batches of up to {@code batch-size}, or whatever arrived within
+ * {@code flush-interval} of the first item, and writes each batch in one transaction. Once {@code capacity}
+ * decisions are waiting, new submissions wait up to {@code enqueue-timeout} and then fail with 503.
+ * A batch that still fails after {@code MAX_ATTEMPTS} is written item by item, so one bad decision does not hold
+ * back the rest. Items that fail on their own are marked FAILED, keep their journal entry and capacity, and are
+ * queued again every {@code retry-interval}.
+ * Entries left in the journal by a crash are replayed on startup unless their rows already exist.
+ */
+@Slf4j
+@Component
+@RegisterReflectionForBinding(DecisionJournal.Entry.class)
+public class WriteBehindPersister implements SmartLifecycle {
+
+    public enum Status { PENDING, PERSISTED, FAILED }
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Duration enqueueTimeout;
+    private final Duration retryInterval;
+    private final DecisionJournal journal;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicantRepository applicantRepository;
+    private final LoanApplicationRepository loanApplicationRepository;
+    private final LoanOfferRepository loanOfferRepository;
+
+    private final BlockingQueue<PendingDecision> queue = new LinkedBlockingQueue<>();
+    private final Semaphore capacity;
+    private final ConcurrentMap<String, Status> statuses = new ConcurrentHashMap<>();
+    // Only touched by the writer thread
+    private final List<PendingDecision> failed = new ArrayList<>();
+    private long retryAt;
+    private volatile boolean running;
+    private Thread writer;
+
+    public WriteBehindPersister(@Value("${loan.write-behind.enabled:false}") boolean enabled,
+                                @Value("${loan.write-behind.capacity:10000}") int capacity,
+                                @Value("${loan.write-behind.batch-size:500}") int batchSize,
+                                @Value("${loan.write-behind.flush-interval:200ms}") Duration flushInterval,
+                                @Value("${loan.write-behind.enqueue-timeout:100ms}") Duration enqueueTimeout,
+                                @Value("${loan.write-behind.retry-interval:1m}") Duration retryInterval,
+                                @Value("${loan.write-behind.journal-path:data/write-behind.journal}") Path journalPath,
+                                @Value("${loan.write-behind.fsync:true}") boolean fsync,
+                                ObjectMapper objectMapper,
+                                CryptoUtil cryptoUtil,
+                                TransactionTemplate transactionTemplate,
+                                ApplicantRepository applicantRepository,
+                                LoanApplicationRepository loanApplicationRepository,
+                                LoanOfferRepository loanOfferRepository,
+                                MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.enqueueTimeout = enqueueTimeout;
+        this.retryInterval = retryInterval;
+        this.capacity = new Semaphore(capacity);
+        this.journal = new DecisionJournal(journalPath, objectMapper, fsync, cryptoUtil);
+        this.transactionTemplate = transactionTemplate;
+        this.applicantRepository = applicantRepository;
+        this.loanApplicationRepository = loanApplicationRepository;
+        this.loanOfferRepository = loanOfferRepository;
+        Gauge.builder("loan.write_behind.pending", queue, BlockingQueue::size)
+                .description("Decisions waiting to be written")
+                .register(meterRegistry);
+        Gauge.builder("loan.write_behind.journal.outstanding", journal, DecisionJournal::outstanding)
+                .description("Journaled decisions not yet written, including failed ones awaiting retry")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Journals and queues a decision. Returns once the decision is durable in the journal.
+     */
+    public void submit(PendingDecision decision) {
+        if (!enabled) {
+            throw new IllegalStateException("Write-behind persistence is not enabled");
+        }
+        acquire();
+        statuses.put(decision.reference(), Status.PENDING);
+        try {
+            journal.append(decision);
+        } catch (RuntimeException e) {
+            statuses.remove(decision.reference());
+            capacity.release();
+            throw e;
+        }
+        queue.add(decision);
+    }
+
+    /**
+     * Returns the persistence status for an application reference, or null if it is unknown.
+     */
+    public Status status(String reference) {
+        Status status = statuses.get(reference);
+        if (status != null) {
+            return status;
+        }
+        return loanApplicationRepository.existsByReference(reference) ? Status.PERSISTED : null;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        List<PendingDecision> recovered = journal.open();
+        running = true;
+        writer = new Thread(this::drain, "write-behind-writer");
+        writer.start();
+        replay(recovered);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        journal.close();
+        log.info("Write-behind writer stopped; {} decisions left in journal", journal.outstanding());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Start before and stop after the web server, so nothing is accepted that cannot be written
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void acquire() {
+        try {
+            if (!capacity.tryAcquire(enqueueTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new ServiceBusyException("Write-behind queue is full");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("Interrupted waiting for write-behind queue");
+        }
+    }
+
+    private void replay(List<PendingDecision> recovered) {
+        if (recovered.isEmpty()) {
+            return;
+        }
+        Set<String> references = new HashSet<>();
+        recovered.forEach(decision -> references.add(decision.reference()));
+        Set<String> alreadyWritten = loanApplicationRepository.findExistingReferences(references);
+        journal.commit(alreadyWritten);
+
+        int replayed = 0;
+        for (PendingDecision decision : recovered) {
+            if (!alreadyWritten.contains(decision.reference())) {
+                capacity.acquireUninterruptibly();
+                statuses.put(decision.reference(), Status.PENDING);
+                queue.add(decision);
+                replayed++;
+            }
+        }
+        log.info("Recovered write-behind journal: {} replayed, {} already written", replayed, alreadyWritten.size());
+    }
+
+    private void drain() {
+        while (running || !queue.isEmpty()) {
+            try {
+                requeueFailed();
+                List<PendingDecision> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private List<PendingDecision> nextBatch() throws InterruptedException {
+        List<PendingDecision> batch = new ArrayList<>(batchSize);
+        PendingDecision first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + flushInterval.toNanos();
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+            PendingDecision next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void flush(List<PendingDecision> batch) throws InterruptedException {
+        List<PendingDecision> written = batch;
+        if (!writeWithRetries(batch)) {
+            written = new ArrayList<>(batch.size());
+            for (PendingDecision decision : batch) {
+                if (batch.size() > 1 && writeOnce(List.of(decision))) {
+                    written.add(decision);
+                } else {
+                    park(decision);
+                }
+            }
+            log.error("Write-behind batch of {}: {} written one by one, {} failed and will be retried in {}",
+                    batch.size(), written.size(), batch.size() - written.size(), retryInterval);
+        }
+
+        List<String> references = written.stream().map(PendingDecision::reference).toList();
+        journal.commit(references);
+        references.forEach(statuses::remove);
+        capacity.release(written.size());
+        log.debug("Wrote {} decisions", written.size());
+    }
+
+    private boolean writeWithRetries(List<PendingDecision> batch) throws InterruptedException {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(batch));
+                return true;
+            } catch (RuntimeException e) {
+                log.warn("Write-behind batch of {} failed (attempt {})", batch.size(), attempt, e);
+                if (attempt < MAX_ATTEMPTS) {
+                    Thread.sleep(100L * attempt);
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean writeOnce(List<PendingDecision> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(batch));
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Write-behind decision {} failed", batch.get(0).reference(), e);
+            return false;
+        }
+    }
+
+    // Keeps the journal entry and capacity permit until the decision is written
+    private void park(PendingDecision decision) {
+        if (failed.isEmpty()) {
+            retryAt = System.nanoTime() + retryInterval.toNanos();
+        }
+        failed.add(decision);
+        statuses.put(decision.reference(), Status.FAILED);
+    }
+
+    private void requeueFailed() {
+        if (failed.isEmpty() || System.nanoTime() - retryAt < 0) {
+            return;
+        }
+        log.info("Retrying {} failed write-behind decisions", failed.size());
+        for (PendingDecision decision : failed) {
+            statuses.put(decision.reference(), Status.PENDING);
+            queue.add(decision);
+        }
+        failed.clear();
+    }
+
+    private void write(List<PendingDecision> batch) {
+        Set<String> hashes = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (PendingDecision decision : batch) {
+            hashes.add(decision.ssnHash());
+            emails.add(decision.email());
+        }
+
+        Map<String, Applicant> applicantsBySsnHash = new HashMap<>();
+        Map<String, Applicant> applicantsByEmail = new HashMap<>();
+        for (Applicant existing : applicantRepository.findBySsnHashInOrEmailIn(hashes, emails)) {
+            if (existing.getSsnHash() != null) {
+                applicantsBySsnHash.put(existing.getSsnHash(), existing);
+            }
+            applicantsByEmail.put(existing.getEmail(), existing);
+        }
+
+        List<Applicant> newApplicants = new ArrayList<>();
+        List<LoanApplication> applications = new ArrayList<>(batch.size());
+        List<LoanOffer> offers = new ArrayList<>(batch.size());
+        for (PendingDecision decision : batch) {
+            Applicant applicant = applicantsBySsnHash.get(decision.ssnHash());
+            if (applicant == null) {
+                applicant = applicantsByEmail.get(decision.email());
+            }
+            if (applicant == null) {
+                applicant = decision.toApplicant();
+                newApplicants.add(applicant);
+                applicantsBySsnHash.put(decision.ssnHash(), applicant);
+                applicantsByEmail.put(decision.email(), applicant);
+            }
+            LoanApplication application = decision.toApplication(applicant);
+            applications.add(application);
+            offers.add(decision.toOffer(application));
+        }
+
+        applicantRepository.saveAll(newApplicants);
+        loanApplicationRepository.saveAll(applications);
+        loanOfferRepository.saveAll(offers);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.loanorigination.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.HexFormat;
+
+/**
+ * Keyed HMAC-SHA256 blind index for encrypted identifiers.
+ * Gives a deterministic, non-reversible lookup value for an SSN, so equality checks can run
+ * against an indexed column while the SSN itself stays randomly encrypted by {@link CryptoUtil}.
+ * Uses a key separate from the encryption key.
+ */
+@Component
+public class BlindIndexUtil {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> mac = ThreadLocal.withInitial(this::newMac);
+
+    public BlindIndexUtil(@Value("${encryption.blind-index-key}") String secretKey) {
+        this.key = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    /**
+     * Returns the lowercase hex HMAC of the SSN digits, ignoring spaces and dashes.
+     */
+    public String hashSsn(String ssn) {
+        if (ssn == null) return null;
+        StringBuilder digits = new StringBuilder(ssn.length());
+        for (int i = 0; i < ssn.length(); i++) {
+            char c = ssn.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        Mac hmac = mac.get();
+        return HexFormat.of().formatHex(hmac.doFinal(digits.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac hmac = Mac.getInstance(ALGORITHM);
+            hmac.init(key);
+            return hmac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Error initialising blind index", e);
+        }
+    }
+}
@@ -1,46 +1,167 @@
 package com.example.loanorigination.util;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Field-level encryption for applicant PII.
+ * New values use AES-GCM with a random 96-bit IV and are written as {@code v1:<base64(iv || ciphertext || tag)>}.
+ * Values without a version prefix were written by the original AES/ECB scheme and still decrypt.
+ * The key is derived once and each thread reuses its own Cipher instances.
+ * Every call is timed under {@code loan.crypto}, tagged by operation.
+ */
 @Component
 public class CryptoUtil {
 
-    private final String secretKey;
+    static final String VERSION_PREFIX = "v1:";
+
     private static final String ALGORITHM = "AES";
+    private static final String GCM_TRANSFORMATION = "AES/GCM/NoPadding";
+    // What the JDK resolves a bare "AES" transformation to; used only to read pre-v1 values.
+    private static final String LEGACY_TRANSFORMATION = "AES/ECB/PKCS5Padding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_LENGTH_BITS = 128;
+
+    private final SecretKeySpec key;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final ThreadLocal<Cipher> gcmCipher = ThreadLocal.withInitial(() -> newCipher(GCM_TRANSFORMATION));
+    private final ThreadLocal<Cipher> legacyCipher = ThreadLocal.withInitial(() -> newCipher(LEGACY_TRANSFORMATION));
+
+    private final Timer encryptTimer;
+    private final Timer decryptTimer;
+    private final Timer encryptBatchTimer;
+    private final Timer decryptBatchTimer;
+
+    @Autowired
+    public CryptoUtil(@Value("${encryption.aes-key}") String secretKey, MeterRegistry meterRegistry) {
+        this.key = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.encryptTimer = timer(meterRegistry, "encrypt");
+        this.decryptTimer = timer(meterRegistry, "decrypt");
+        this.encryptBatchTimer = timer(meterRegistry, "encrypt_batch");
+        this.decryptBatchTimer = timer(meterRegistry, "decrypt_batch");
+    }
 
-    public CryptoUtil(@Value("${encryption.aes-key}") String secretKey) {
-        this.secretKey = secretKey;
+    public CryptoUtil(String secretKey) {
+        this(secretKey, Metrics.globalRegistry);
     }
 
     public String encrypt(String data) {
+        if (data == null) return null;
+        long start = System.nanoTime();
         try {
-            if (data == null) return null;
-            SecretKeySpec key = new SecretKeySpec(secretKey.getBytes(), ALGORITHM);
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            cipher.init(Cipher.ENCRYPT_MODE, key);
-            byte[] encrypted = cipher.doFinal(data.getBytes());
-            return Base64.getEncoder().encodeToString(encrypted);
+            return encrypt(gcmCipher.get(), data);
         } catch (Exception e) {
             throw new RuntimeException("Error encrypting data", e);
+        } finally {
+            encryptTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
     }
 
     public String decrypt(String encryptedData) {
+        if (encryptedData == null) return null;
+        long start = System.nanoTime();
+        try {
+            return decrypt(encryptedData, gcmCipher.get(), legacyCipher.get());
+        } catch (Exception e) {
+            throw new RuntimeException("Error decrypting data", e);
+        } finally {
+            decryptTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Encrypts a list of values with a single cipher lookup. Null entries stay null.
+     */
+    public List<String> encryptAll(List<String> values) {
+        long start = System.nanoTime();
+        try {
+            Cipher cipher = gcmCipher.get();
+            List<String> encrypted = new ArrayList<>(values.size());
+            for (String value : values) {
+                encrypted.add(value == null ? null : encrypt(cipher, value));
+            }
+            return encrypted;
+        } catch (Exception e) {
+            throw new RuntimeException("Error encrypting data", e);
+        } finally {
+            encryptBatchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Decrypts a list of values with a single cipher lookup. Null entries stay null.
+     */
+    public List<String> decryptAll(List<String> values) {
+        long start = System.nanoTime();
         try {
-            if (encryptedData == null) return null;
-            SecretKeySpec key = new SecretKeySpec(secretKey.getBytes(), ALGORITHM);
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            cipher.init(Cipher.DECRYPT_MODE, key);
-            byte[] decoded = Base64.getDecoder().decode(encryptedData);
-            byte[] decrypted = cipher.doFinal(decoded);
-            return new String(decrypted);
+            Cipher gcm = gcmCipher.get();
+            Cipher legacy = legacyCipher.get();
+            List<String> decrypted = new ArrayList<>(values.size());
+            for (String value : values) {
+                decrypted.add(value == null ? null : decrypt(value, gcm, legacy));
+            }
+            return decrypted;
         } catch (Exception e) {
             throw new RuntimeException("Error decrypting data", e);
+        } finally {
+            decryptBatchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private String encrypt(Cipher cipher, String data) throws GeneralSecurityException {
+        byte[] iv = new byte[IV_LENGTH];
+        secureRandom.nextBytes(iv);
+        cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+        byte[] plain = data.getBytes(StandardCharsets.UTF_8);
+
+        ByteBuffer out = ByteBuffer.allocate(IV_LENGTH + cipher.getOutputSize(plain.length));
+        out.put(iv);
+        cipher.doFinal(ByteBuffer.wrap(plain), out);
+        return VERSION_PREFIX + Base64.getEncoder().encodeToString(out.array());
+    }
+
+    private String decrypt(String encryptedData, Cipher gcm, Cipher legacy) throws GeneralSecurityException {
+        if (!encryptedData.startsWith(VERSION_PREFIX)) {
+            legacy.init(Cipher.DECRYPT_MODE, key);
+            byte[] decrypted = legacy.doFinal(Base64.getDecoder().decode(encryptedData));
+            return new String(decrypted, StandardCharsets.UTF_8);
+        }
+
+        byte[] decoded = Base64.getDecoder().decode(encryptedData.substring(VERSION_PREFIX.length()));
+        gcm.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH_BITS, decoded, 0, IV_LENGTH));
+        byte[] decrypted = gcm.doFinal(decoded, IV_LENGTH, decoded.length - IV_LENGTH);
+        return new String(decrypted, StandardCharsets.UTF_8);
+    }
+
+    private static Timer timer(MeterRegistry registry, String operation) {
+        return Timer.builder("loan.crypto")
+                .description("Time spent encrypting and decrypting applicant PII")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static Cipher newCipher(String transformation) {
+        try {
+            return Cipher.getInstance(transformation);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cipher " + transformation + " is not available", e);
         }
     }
 }
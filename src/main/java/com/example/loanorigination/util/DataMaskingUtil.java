@@ -5,11 +5,23 @@ public class DataMaskingUtil {
     private DataMaskingUtil() {
     }
 
+    private static final String MASKED_SSN = "***-**-****";
+
+    /**
+     * Keeps the last four digits of a nine-digit SSN, ignoring separators. Scans the characters directly
+     * rather than stripping non-digits with a regex on every call.
+     */
     public static String maskSsn(String ssn) {
-        if (ssn == null) return "***-**-****";
-        String d = ssn.replaceAll("[^0-9]", "");
-        if (d.length() != 9) return "***-**-****";
-        return "***-**-" + d.substring(5); // ***-**-6789
+        if (ssn == null) return MASKED_SSN;
+        char[] masked = MASKED_SSN.toCharArray();
+        int digits = 0;
+        for (int i = 0; i < ssn.length(); i++) {
+            char c = ssn.charAt(i);
+            if (c < '0' || c > '9') continue;
+            if (++digits > 9) return MASKED_SSN;
+            if (digits > 5) masked[digits + 1] = c; // ***-**-6789
+        }
+        return digits == 9 ? new String(masked) : MASKED_SSN;
     }
 
     public static String maskEmail(String email) {
@@ -0,0 +1,39 @@
+package com.example.loanorigination.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Supplies the random generator for the calling thread.
+ * Callers fetch the generator each time they need one and do not keep it, so no generator state is shared
+ * between threads and there is no contended seed update as with a shared {@link java.util.Random}.
+ */
+@FunctionalInterface
+public interface RandomSource {
+
+    RandomGenerator generator();
+
+    /**
+     * Production source: {@link ThreadLocalRandom}, unseeded and uncontended.
+     */
+    static RandomSource threadLocal() {
+        return ThreadLocalRandom::current;
+    }
+
+    /**
+     * Reproducible source for tests and simulations. Each thread gets its own {@code L64X128MixRandom}, split from
+     * one generator seeded with {@code seed}, so a single-threaded run yields the same sequence every time, and
+     * threads draw from independent streams.
+     */
+    static RandomSource seeded(long seed) {
+        SplittableGenerator root = (SplittableGenerator) RandomGeneratorFactory.of("L64X128MixRandom").create(seed);
+        ThreadLocal<RandomGenerator> perThread = ThreadLocal.withInitial(() -> {
+            synchronized (root) {
+                return root.split();
+            }
+        });
+        return perThread::get;
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.loanorigination.validation;
+
+import com.example.loanorigination.dto.LoanApplicationRequestDto;
+import jakarta.validation.ConstraintViolation;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Validates {@link LoanApplicationRequestDto} with plain character scans instead of Bean Validation metadata
+ * and regexes. The scan only accepts values that the annotations on the DTO accept too (for {@code @Email},
+ * plain ASCII addresses), so a request it passes is valid. Anything it does not pass goes to Hibernate
+ * Validator, and rejected requests get exactly the errors they got before.
+ * Bound to {@code @Valid} request bodies by {@code LoanApplicationController}; the batch and reactive paths
+ * call {@link #errors}.
+ */
+@Component
+public class LoanApplicationRequestValidator implements Validator {
+
+    // RFC 5321 limits, tighter than or equal to what Hibernate Validator allows
+    private static final int MAX_LOCAL_PART = 64;
+    private static final int MAX_DOMAIN = 253;
+    private static final int MAX_LABEL = 63;
+
+    private final jakarta.validation.Validator beanValidator;
+    private final SpringValidatorAdapter fallback;
+
+    public LoanApplicationRequestValidator(jakarta.validation.Validator beanValidator) {
+        this.beanValidator = beanValidator;
+        this.fallback = new SpringValidatorAdapter(beanValidator);
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return LoanApplicationRequestDto.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        if (target instanceof LoanApplicationRequestDto request && passes(request)) {
+            return;
+        }
+        fallback.validate(target, errors);
+    }
+
+    /**
+     * Constraint messages keyed by field, as {@code GlobalExceptionHandler.handleValidationErrors} returns them.
+     * Empty when the request is valid.
+     */
+    public Map<String, String> errors(LoanApplicationRequestDto request) {
+        Map<String, String> errors = new HashMap<>();
+        if (passes(request)) {
+            return errors;
+        }
+        for (ConstraintViolation<LoanApplicationRequestDto> violation : beanValidator.validate(request)) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
+    }
+
+    static boolean passes(LoanApplicationRequestDto request) {
+        return hasText(request.getName())
+                && hasText(request.getAddress())
+                && isPlainEmail(request.getEmail())
+                && isTenDigits(request.getPhone())
+                && isTenDigits(request.getSsn())
+                && isAtLeastOne(request.getRequestedAmount());
+    }
+
+    // @NotBlank
+    private static boolean hasText(String value) {
+        if (value == null) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c > ' ' && !Character.isWhitespace(c)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // @NotBlank + @Pattern("^[0-9]{10}$")
+    private static boolean isTenDigits(String value) {
+        if (value == null || value.length() != 10) {
+            return false;
+        }
+        for (int i = 0; i < 10; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // @NotNull + @DecimalMin("1.0"), inclusive
+    private static boolean isAtLeastOne(BigDecimal value) {
+        return value != null && value.compareTo(BigDecimal.ONE) >= 0;
+    }
+
+    /**
+     * {@code @NotBlank @Email} for the common case: dot-separated atoms of ASCII letters, digits and the RFC 5322
+     * specials before the {@code @}; dot-separated labels of letters, digits and inner hyphens after it,
+     * with at least two labels. Quoted local parts, IP literals and non-ASCII addresses return false and are
+     * left to Hibernate Validator.
+     */
+    private static boolean isPlainEmail(String value) {
+        if (value == null) {
+            return false;
+        }
+        int at = value.indexOf('@');
+        if (at < 1 || at > MAX_LOCAL_PART) {
+            return false;
+        }
+        int domainLength = value.length() - at - 1;
+        if (domainLength < 1 || domainLength > MAX_DOMAIN) {
+            return false;
+        }
+
+        boolean atomStart = true;
+        for (int i = 0; i < at; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                if (atomStart) {
+                    return false;
+                }
+                atomStart = true;
+            } else if (isAtext(c)) {
+                atomStart = false;
+            } else {
+                return false;
+            }
+        }
+        if (atomStart) {
+            return false;
+        }
+
+        int labelLength = 0;
+        int labels = 1;
+        for (int i = at + 1; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                if (labelLength == 0 || value.charAt(i - 1) == '-') {
+                    return false;
+                }
+                labelLength = 0;
+                labels++;
+            } else if (isLetterOrDigit(c) || (c == '-' && labelLength > 0)) {
+                if (++labelLength > MAX_LABEL) {
+                    return false;
+                }
+            } else {
+                return false;
+            }
+        }
+        return labels > 1 && labelLength > 0 && value.charAt(value.length() - 1) != '-';
+    }
+
+    private static boolean isLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isAtext(char c) {
+        return isLetterOrDigit(c) || "!#$%&'*+/=?^_`{|}~-".indexOf(c) >= 0;
+    }
+}
@@ -0,0 +1,2 @@
+-- Date-range reporting and archival scans over applications; offers already have idx_loan_offer_created (V8).
+CREATE INDEX idx_loan_application_created ON loan_application (created_at, id);
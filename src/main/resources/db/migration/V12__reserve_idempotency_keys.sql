@@ -0,0 +1,5 @@
+-- Keys are reserved (response_body NULL, owner_token set) before the decision runs, and the response is
+-- written in the same transaction as the application. request_hash rejects a key reused with another body.
+ALTER TABLE idempotency_key ALTER COLUMN response_body DROP NOT NULL;
+ALTER TABLE idempotency_key ADD COLUMN request_hash VARCHAR(64);
+ALTER TABLE idempotency_key ADD COLUMN owner_token VARCHAR(36);
@@ -1,9 +1,11 @@
+-- Ids come from applicant_seq (V4); Hibernate and the reactive writer allocate them in pooled-lo blocks.
 CREATE TABLE applicant (
-            id SERIAL PRIMARY KEY,
-            name VARCHAR(100) NOT NULL,
+            id BIGINT PRIMARY KEY,
+            name VARCHAR(255) NOT NULL,
             address VARCHAR(255) NOT NULL,
-            email VARCHAR(100) NOT NULL UNIQUE,
+            email VARCHAR(255) NOT NULL UNIQUE,
             phone VARCHAR(20) NOT NULL,
-            ssn VARCHAR(20) NOT NULL UNIQUE,
-            created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+            -- AES-GCM ciphertext (v1:<base64>) with a random IV, so it cannot be unique; see ssn_hash (V5)
+            ssn VARCHAR(255) NOT NULL,
+            created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
@@ -1,8 +1,8 @@
+-- The offer points at its application (V3), not the other way round.
 CREATE TABLE loan_application (
-                id SERIAL PRIMARY KEY,
-                applicant_id INT NOT NULL REFERENCES applicant(id) ON DELETE CASCADE,
-                offer_id INT NOT NULL REFERENCES loan_offer(id) ON DELETE CASCADE,
+                id BIGINT PRIMARY KEY,
+                applicant_id BIGINT NOT NULL REFERENCES applicant(id) ON DELETE CASCADE,
                 requested_amount NUMERIC(15,2) NOT NULL,
                 credit_lines INT,
-                created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+                created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
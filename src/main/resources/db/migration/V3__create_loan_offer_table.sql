@@ -1,10 +1,11 @@
 CREATE TABLE loan_offer (
-            id SERIAL PRIMARY KEY,
-            application_id INT NOT NULL REFERENCES loan_application(id) ON DELETE CASCADE,
+            id BIGINT PRIMARY KEY,
+            application_id BIGINT NOT NULL REFERENCES loan_application(id) ON DELETE CASCADE,
+            requested_amount NUMERIC(15,2),
             decision VARCHAR(20) NOT NULL,
             reason VARCHAR(255),
             interest_rate NUMERIC(5,3),
             term_months INT,
             monthly_payment NUMERIC(15,2),
-            created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+            created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
@@ -0,0 +1,5 @@
+-- Sequence-backed ids so Hibernate can batch inserts (pooled-lo, allocationSize = 50).
+-- INCREMENT BY must match the allocationSize on the entity @SequenceGenerator mappings.
+CREATE SEQUENCE applicant_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE loan_application_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE loan_offer_seq START WITH 1 INCREMENT BY 50;
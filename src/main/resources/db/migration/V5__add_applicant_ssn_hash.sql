@@ -0,0 +1,5 @@
+-- Keyed HMAC-SHA256 blind index of the SSN (hex). Encrypted SSNs are randomized,
+-- so lookups and uniqueness go through this column instead.
+-- Existing rows are filled in by SsnBlindIndexBackfillJob.
+ALTER TABLE applicant ADD COLUMN ssn_hash VARCHAR(64);
+CREATE UNIQUE INDEX idx_applicant_ssn_hash ON applicant (ssn_hash);
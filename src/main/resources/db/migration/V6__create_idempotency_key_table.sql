@@ -0,0 +1,7 @@
+-- Responses of POST /apply keyed by the client's Idempotency-Key header.
+CREATE TABLE idempotency_key (
+            idempotency_key VARCHAR(128) PRIMARY KEY,
+            response_body VARCHAR(4000) NOT NULL,
+            created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX idx_idempotency_key_created_at ON idempotency_key (created_at);
@@ -0,0 +1,3 @@
+-- Public application id returned by /apply; known before the row is written so write-behind can report status.
+ALTER TABLE loan_application ADD COLUMN reference VARCHAR(36);
+CREATE UNIQUE INDEX idx_loan_application_reference ON loan_application (reference);
@@ -0,0 +1,4 @@
+-- Keyset pagination of an applicant's applications and offers, newest first on (created_at, id).
+CREATE INDEX idx_loan_application_applicant_created ON loan_application (applicant_id, created_at DESC, id DESC);
+CREATE INDEX idx_loan_offer_application ON loan_offer (application_id);
+CREATE INDEX idx_loan_offer_created ON loan_offer (created_at DESC, id DESC);
@@ -0,0 +1,2 @@
+-- Version of the loan rules that produced each offer; null for offers decided before rules were versioned.
+ALTER TABLE loan_offer ADD COLUMN rules_version VARCHAR(64);
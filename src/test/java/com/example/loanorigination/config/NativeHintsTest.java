@@ -0,0 +1,20 @@
+package com.example.loanorigination.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NativeHintsTest {
+
+    @Test
+    void shouldEmbedRulesAndMigrations() {
+        RuntimeHints hints = new RuntimeHints();
+        new NativeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertTrue(RuntimeHintsPredicates.resource().forResource("loan-rules.yml").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("db/migration/V1__create_applicant_table.sql").test(hints));
+    }
+}
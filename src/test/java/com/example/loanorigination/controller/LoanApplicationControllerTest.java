@@ -3,23 +3,31 @@ package com.example.loanorigination.controller;
 import com.example.loanorigination.dto.LoanApplicationRequestDto;
 import com.example.loanorigination.dto.LoanApplicationResponseDto;
 import com.example.loanorigination.dto.LoanOfferDto;
+import com.example.loanorigination.exception.IdempotencyKeyReusedException;
+import com.example.loanorigination.exception.InvalidRequestException;
+import com.example.loanorigination.service.AmortizationScheduleService;
+import com.example.loanorigination.service.IdempotencyService;
 import com.example.loanorigination.service.LoanDecisionService;
 import com.example.loanorigination.util.LoanApplicationRequestBuilder;
+import com.example.loanorigination.validation.LoanApplicationRequestValidator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(LoanApplicationController.class)
+@Import(LoanApplicationRequestValidator.class)
 class LoanApplicationControllerTest {
 
     @Autowired
@@ -31,6 +39,12 @@ class LoanApplicationControllerTest {
     @MockitoBean
     private LoanDecisionService service;
 
+    @MockitoBean
+    private AmortizationScheduleService scheduleService;
+
+    @MockitoBean
+    private IdempotencyService idempotencyService;
+
     @Test
     void shouldReturnApprovedResponse() throws Exception {
         // mock response
@@ -42,7 +56,7 @@ class LoanApplicationControllerTest {
         );
 
         LoanApplicationResponseDto mockResponse =
-                new LoanApplicationResponseDto("APPROVED", null, offer);
+                new LoanApplicationResponseDto("app-1", "APPROVED", null, offer);
 
         Mockito.when(service.processLoanApplication(Mockito.any()))
                 .thenReturn(mockResponse);
@@ -61,6 +75,7 @@ class LoanApplicationControllerTest {
     void shouldReturnDeniedResponse() throws Exception {
         // given: a mock denied response from the service
         LoanApplicationResponseDto mockResponse = new LoanApplicationResponseDto(
+                "app-2",                  // applicationId
                 "DENIED",                 // decision
                 "Credit lines > 50",      // reason
                 null                      // no offer DTO
@@ -97,6 +112,28 @@ class LoanApplicationControllerTest {
                 .andExpect(jsonPath("$.errors").doesNotExist()); // optional if you use default validation response
     }
 
+    @Test
+    void shouldReturnOneMessagePerInvalidField() throws Exception {
+        LoanApplicationRequestDto invalidRequest = LoanApplicationRequestDto.builder()
+                .name("")
+                .email("invalid-email")
+                .requestedAmount(BigDecimal.valueOf(0.5))
+                .build();
+
+        mockMvc.perform(post("/api/loan-applications/apply")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(invalidRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.length()").value(6))
+                .andExpect(jsonPath("$.name").value("Name is required"))
+                .andExpect(jsonPath("$.address").value("Address is required"))
+                .andExpect(jsonPath("$.email").value("Please provide a valid email address"))
+                .andExpect(jsonPath("$.phone").value("Phone number is required"))
+                .andExpect(jsonPath("$.ssn").value("SSN is required"))
+                .andExpect(jsonPath("$.requestedAmount").value("Requested amount must be greater than zero"));
+        Mockito.verifyNoInteractions(service);
+    }
+
     @Test
     void shouldReturnInternalServerErrorWhenServiceThrowsException() throws Exception {
         // simulate service throwing a runtime exception
@@ -111,4 +148,58 @@ class LoanApplicationControllerTest {
                 .andExpect(status().isInternalServerError());
     }
 
+    @Test
+    void shouldReturnBadRequestForRejectedBatch() throws Exception {
+        Mockito.when(service.processLoanApplicationBatch(Mockito.anyList()))
+                .thenThrow(new InvalidRequestException("Batch size must not exceed 5000 applications"));
+
+        mockMvc.perform(post("/api/loan-applications/apply/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(new LoanApplicationRequestBuilder().build()))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Batch size must not exceed 5000 applications"));
+    }
+
+    @Test
+    void shouldNotExposeInternalIllegalArgumentExceptions() throws Exception {
+        Mockito.when(service.processLoanApplicationBatch(Mockito.anyList()))
+                .thenThrow(new IllegalArgumentException("Rules v3: amount band needs min <= max"));
+
+        mockMvc.perform(post("/api/loan-applications/apply/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(new LoanApplicationRequestBuilder().build()))))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.message").value("An unexpected error occurred. Please try again later."));
+    }
+
+    @Test
+    void shouldRouteRequestsWithIdempotencyKeyThroughIdempotencyService() throws Exception {
+        LoanApplicationResponseDto storedResponse = new LoanApplicationResponseDto("app-3", "DENIED", "Credit lines > 50", null);
+        Mockito.when(idempotencyService.execute(Mockito.eq("retry-123"), Mockito.any(), Mockito.any()))
+                .thenReturn(storedResponse);
+
+        LoanApplicationRequestDto request = new LoanApplicationRequestBuilder().build();
+
+        mockMvc.perform(post("/api/loan-applications/apply")
+                        .header("Idempotency-Key", "retry-123")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.decision").value("DENIED"));
+
+        Mockito.verify(service, Mockito.never()).processLoanApplication(Mockito.any());
+    }
+
+    @Test
+    void shouldRejectIdempotencyKeyReusedWithDifferentBody() throws Exception {
+        Mockito.when(idempotencyService.execute(Mockito.eq("retry-456"), Mockito.any(), Mockito.any()))
+                .thenThrow(new IdempotencyKeyReusedException("Idempotency-Key retry-456 was already used"));
+
+        mockMvc.perform(post("/api/loan-applications/apply")
+                        .header("Idempotency-Key", "retry-456")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoanApplicationRequestBuilder().build())))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
 }
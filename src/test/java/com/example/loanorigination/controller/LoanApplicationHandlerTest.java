@@ -0,0 +1,107 @@
+package com.example.loanorigination.controller;
+
+import com.example.loanorigination.dto.LoanApplicationResponseDto;
+import com.example.loanorigination.repository.LoanApplicationRepository;
+import com.example.loanorigination.repository.reactive.LoanApplicationRow;
+import com.example.loanorigination.repository.reactive.LoanOfferRow;
+import com.example.loanorigination.repository.reactive.ReactiveLoanApplicationRepository;
+import com.example.loanorigination.repository.reactive.ReactiveLoanOfferRepository;
+import com.example.loanorigination.service.LoanDecisionService;
+import com.example.loanorigination.util.LoanApplicationRequestBuilder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive_handler",
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive_handler"
+})
+@ActiveProfiles("reactive")
+class LoanApplicationHandlerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ReactiveLoanApplicationRepository applicationRows;
+
+    @Autowired
+    private ReactiveLoanOfferRepository offerRows;
+
+    @Autowired
+    private LoanApplicationRepository loanApplicationRepository;
+
+    @Autowired
+    private LoanDecisionService decisionService;
+
+    @Test
+    void shouldDecideAndPersistThroughR2dbc() {
+        LoanApplicationResponseDto response = apply(new LoanApplicationRequestBuilder()
+                .withEmail("reactive.one@example.com")
+                .withSsn("6000000001")
+                .build());
+
+        assertNotNull(response.getDecision());
+        LoanApplicationRow application = applicationRows.findByReference(response.getApplicationId()).block();
+        assertNotNull(application);
+        LoanOfferRow offer = offerRows.findByApplicationId(application.id()).block();
+        assertNotNull(offer);
+        assertEquals(response.getDecision(), offer.decision());
+        assertNotNull(offer.rulesVersion());
+        // The JPA side sees the same rows
+        assertTrue(loanApplicationRepository.existsByReference(response.getApplicationId()));
+    }
+
+    @Test
+    void shouldReuseApplicantAndShareSequencesWithJpaWriter() {
+        LoanApplicationResponseDto first = apply(new LoanApplicationRequestBuilder()
+                .withEmail("reactive.repeat@example.com")
+                .withSsn("6000000002")
+                .build());
+        LoanApplicationResponseDto viaJpa = decisionService.processLoanApplication(new LoanApplicationRequestBuilder()
+                .withEmail("reactive.jpa@example.com")
+                .withSsn("6000000003")
+                .build());
+        LoanApplicationResponseDto second = apply(new LoanApplicationRequestBuilder()
+                .withEmail("reactive.repeat@example.com")
+                .withSsn("6000000002")
+                .build());
+
+        LoanApplicationRow firstRow = applicationRows.findByReference(first.getApplicationId()).block();
+        LoanApplicationRow secondRow = applicationRows.findByReference(second.getApplicationId()).block();
+        LoanApplicationRow jpaRow = applicationRows.findByReference(viaJpa.getApplicationId()).block();
+        assertEquals(firstRow.applicantId(), secondRow.applicantId());
+        assertNotEquals(firstRow.id(), jpaRow.id());
+        assertNotEquals(secondRow.id(), jpaRow.id());
+    }
+
+    @Test
+    void shouldReturnFieldErrorsForInvalidApplication() {
+        webTestClient.post().uri("/api/loan-applications/apply")
+                .bodyValue(new LoanApplicationRequestBuilder()
+                        .withSsn("123")
+                        .withRequestedAmount(BigDecimal.valueOf(-1))
+                        .build())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.ssn").exists()
+                .jsonPath("$.requestedAmount").exists();
+    }
+
+    private LoanApplicationResponseDto apply(Object request) {
+        return webTestClient.post().uri("/api/loan-applications/apply")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(LoanApplicationResponseDto.class)
+                .returnResult()
+                .getResponseBody();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.loanorigination.load;
+
+import com.example.loanorigination.LoanOriginationSystemApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares /apply throughput and p99 latency with Tomcat on platform threads versus virtual threads.
+ * Each mode gets its own application context and in-memory database. Tomcat's platform pool is
+ * shrunk so that thread exhaustion shows up at this concurrency; run with {@code ./gradlew loadTest}.
+ */
+@Tag("load")
+class ApplyLoadTest {
+
+    private static final int CONCURRENCY = 1000;
+    private static final int REQUESTS = 10_000;
+
+    private final LoadDriver driver = new LoadDriver();
+
+    @Test
+    void compareVirtualAndPlatformThreads() throws Exception {
+        LoadDriver.LoadResult platform = runAgainst(false);
+        LoadDriver.LoadResult virtual = runAgainst(true);
+
+        System.out.println(platform.summary("platform"));
+        System.out.println(virtual.summary("virtual"));
+
+        assertEquals(0, platform.errors());
+        assertEquals(0, virtual.errors());
+    }
+
+    private LoadDriver.LoadResult runAgainst(boolean virtualThreads) throws InterruptedException {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(LoanOriginationSystemApplication.class)
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.threads.max=50",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=jdbc:h2:mem:load_" + mode,
+                        "logging.level.com.example.loanorigination=WARN")
+                .run()) {
+
+            int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+            URI uri = URI.create("http://localhost:" + port + "/api/loan-applications/apply");
+
+            // warm up before measuring
+            driver.post(uri, n -> body("warmup", 9_000_000_000L + n), 50, 1_000);
+            return driver.post(uri, n -> body(mode, 1_000_000_000L + n), CONCURRENCY, REQUESTS);
+        }
+    }
+
+    /** A valid application whose email and 10-digit SSN are unique per {@code ssn} value. */
+    static String body(String prefix, long ssn) {
+        return """
+                {"name":"Load Test","address":"1 Bench St","email":"%s-%d@example.com",
+                 "phone":"5551112222","ssn":"%d","requestedAmount":25000}
+                """.formatted(prefix, ssn, ssn);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.loanorigination.load;
+
+import com.example.loanorigination.LoanOriginationSystemApplication;
+import com.example.loanorigination.dto.LoanApplicationRequestDto;
+import com.example.loanorigination.service.LoanDecisionService;
+import com.example.loanorigination.service.StubCreditBureau;
+import com.example.loanorigination.util.LoanApplicationRequestBuilder;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Shows how long apply holds Hikari connections when the credit pull is slow.
+ * 1,000 concurrent applications run against a stub bureau with {@link #BUREAU_LATENCY} latency, once through
+ * {@link LoanDecisionService#processLoanApplication} as it is, and once wrapped in a single outer transaction the
+ * way the method used to be declared ({@code @Transactional} around the whole flow). For each it prints the peak
+ * number of active connections, the mean and max connection hold time ({@code hikari.connections.usage}) and
+ * the wall time. Run with {@code ./gradlew loadTest}.
+ */
+@Tag("load")
+class ConnectionHoldLoadTest {
+
+    private static final int CONCURRENCY = 1000;
+    private static final int POOL_SIZE = 10;
+    private static final Duration BUREAU_LATENCY = Duration.ofMillis(20);
+
+    @Test
+    void compareSingleTransactionWithShortWriteTransaction() throws Exception {
+        try (StubCreditBureau bureau = new StubCreditBureau().delayAll(BUREAU_LATENCY)) {
+            HoldResult before = run(bureau, "before", context -> {
+                TransactionTemplate transaction = context.getBean(TransactionTemplate.class);
+                LoanDecisionService service = context.getBean(LoanDecisionService.class);
+                return req -> transaction.executeWithoutResult(status -> service.processLoanApplication(req));
+            });
+            HoldResult after = run(bureau, "after", context -> {
+                LoanDecisionService service = context.getBean(LoanDecisionService.class);
+                return service::processLoanApplication;
+            });
+
+            System.out.println(before.summary("single transaction"));
+            System.out.println(after.summary("short write tx"));
+
+            assertEquals(0, before.errors());
+            assertEquals(0, after.errors());
+            // The bureau call no longer happens while a connection is held
+            assertTrue(after.meanHoldMillis() < BUREAU_LATENCY.toMillis(), after.summary("short write tx"));
+            assertTrue(after.meanHoldMillis() < before.meanHoldMillis());
+        }
+    }
+
+    private interface Flow {
+        Consumer<LoanApplicationRequestDto> create(ConfigurableApplicationContext context);
+    }
+
+    private HoldResult run(StubCreditBureau bureau, String mode, Flow flow) throws InterruptedException {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(LoanOriginationSystemApplication.class)
+                .properties(
+                        "spring.main.web-application-type=none",
+                        "spring.datasource.url=jdbc:h2:mem:hold_" + mode,
+                        "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "loan.credit.provider=http",
+                        "loan.credit.bureau.base-url=" + bureau.baseUrl(),
+                        "loan.credit.bureau.max-concurrent-requests=" + CONCURRENCY,
+                        "loan.credit.bureau.hedge-delay=5s",
+                        "logging.level.com.example.loanorigination=WARN")
+                .run()) {
+
+            Consumer<LoanApplicationRequestDto> apply = flow.create(context);
+            HikariDataSource dataSource = context.getBean(HikariDataSource.class);
+            Timer usage = context.getBean(MeterRegistry.class).get("hikari.connections.usage").timer();
+
+            AtomicInteger peakActive = new AtomicInteger();
+            AtomicInteger errors = new AtomicInteger();
+            Thread sampler = Thread.ofPlatform().daemon().start(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    peakActive.accumulateAndGet(dataSource.getHikariPoolMXBean().getActiveConnections(), Math::max);
+                    LockSupport.parkNanos(100_000);
+                }
+            });
+
+            long start = System.nanoTime();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < CONCURRENCY; i++) {
+                    long ssn = 7_000_000_000L + i;
+                    LoanApplicationRequestDto req = new LoanApplicationRequestBuilder()
+                            .withEmail(mode + "-" + ssn + "@example.com")
+                            .withSsn(String.valueOf(ssn))
+                            .build();
+                    executor.submit(() -> {
+                        try {
+                            apply.accept(req);
+                        } catch (RuntimeException e) {
+                            errors.incrementAndGet();
+                        }
+                    });
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            sampler.interrupt();
+
+            return new HoldResult(peakActive.get(), usage.mean(TimeUnit.MILLISECONDS), usage.max(TimeUnit.MILLISECONDS),
+                    elapsed, errors.get());
+        }
+    }
+
+    record HoldResult(int peakActive, double meanHoldMillis, double maxHoldMillis, long elapsedNanos, int errors) {
+
+        String summary(String label) {
+            return String.format("%-20s peak active=%3d/%d  hold mean=%6.1f ms  max=%7.1f ms  wall=%6.0f ms  errors=%d",
+                    label, peakActive, POOL_SIZE, meanHoldMillis, maxHoldMillis, elapsedNanos / 1e6, errors);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.loanorigination.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Fires a fixed number of JSON POSTs with bounded concurrency and records per-request latency.
+ * Shared by the load tests so their numbers are comparable.
+ */
+public final class LoadDriver {
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    public LoadResult post(URI uri, IntFunction<String> body, int concurrency, int requests) throws InterruptedException {
+        long[] latencies = new long[requests];
+        AtomicInteger errors = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(concurrency);
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                int n = i;
+                inFlight.acquire();
+                executor.submit(() -> {
+                    long sent = System.nanoTime();
+                    try {
+                        HttpRequest request = HttpRequest.newBuilder(uri)
+                                .timeout(Duration.ofSeconds(30))
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString(body.apply(n)))
+                                .build();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    } finally {
+                        latencies[n] = System.nanoTime() - sent;
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        return new LoadResult(requests, errors.get(), elapsed,
+                percentile(latencies, 0.50), percentile(latencies, 0.99));
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    public record LoadResult(int requests, int errors, long elapsedNanos, long p50Nanos, long p99Nanos) {
+
+        public double throughputPerSecond() {
+            return requests / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+        }
+
+        public String summary(String label) {
+            return String.format("%-16s %8.1f req/s  p50=%6.1f ms  p99=%7.1f ms  errors=%d",
+                    label, throughputPerSecond(), p50Nanos / 1e6, p99Nanos / 1e6, errors);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.loanorigination.load;
+
+import com.example.loanorigination.LoanOriginationSystemApplication;
+import com.example.loanorigination.service.StubCreditBureau;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares /apply on the default servlet stack (Tomcat, virtual threads, JPA) with the {@code reactive} profile
+ * (Netty, R2DBC) at 1,000 concurrent requests, against a stub bureau with {@link #BUREAU_LATENCY} latency so
+ * the remote call dominates as it does in production. Run with {@code ./gradlew loadTest}.
+ */
+@Tag("load")
+class ReactiveApplyLoadTest {
+
+    private static final int CONCURRENCY = 1000;
+    private static final int REQUESTS = 10_000;
+    private static final Duration BUREAU_LATENCY = Duration.ofMillis(20);
+
+    private final LoadDriver driver = new LoadDriver();
+
+    @Test
+    void compareServletAndReactiveStacks() throws Exception {
+        try (StubCreditBureau bureau = new StubCreditBureau().delayAll(BUREAU_LATENCY)) {
+            LoadDriver.LoadResult servlet = runAgainst(bureau, false);
+            LoadDriver.LoadResult reactive = runAgainst(bureau, true);
+
+            System.out.println(servlet.summary("servlet"));
+            System.out.println(reactive.summary("reactive"));
+
+            assertEquals(0, servlet.errors());
+            assertEquals(0, reactive.errors());
+        }
+    }
+
+    private LoadDriver.LoadResult runAgainst(StubCreditBureau bureau, boolean reactive) throws InterruptedException {
+        String mode = reactive ? "reactive" : "servlet";
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(LoanOriginationSystemApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=true",
+                        "spring.datasource.url=jdbc:h2:mem:load_" + mode,
+                        "spring.r2dbc.url=r2dbc:h2:mem:///load_" + mode,
+                        "loan.credit.provider=http",
+                        "loan.credit.bureau.base-url=" + bureau.baseUrl(),
+                        "loan.credit.bureau.max-concurrent-requests=" + CONCURRENCY,
+                        "loan.credit.bureau.hedge-delay=5s",
+                        "logging.level.com.example.loanorigination=WARN");
+        if (reactive) {
+            builder.profiles("reactive");
+        }
+        try (ConfigurableApplicationContext context = builder.run()) {
+            int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+            URI uri = URI.create("http://localhost:" + port + "/api/loan-applications/apply");
+
+            // warm up before measuring
+            driver.post(uri, n -> ApplyLoadTest.body("warmup", 9_000_000_000L + n), 50, 1_000);
+            return driver.post(uri, n -> ApplyLoadTest.body(mode, 1_000_000_000L + n), CONCURRENCY, REQUESTS);
+        }
+    }
+}
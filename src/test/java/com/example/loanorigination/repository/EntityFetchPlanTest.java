@@ -0,0 +1,114 @@
+package com.example.loanorigination.repository;
+
+import com.example.loanorigination.entity.Applicant;
+import com.example.loanorigination.entity.LoanOffer;
+import com.example.loanorigination.service.LoanDecisionService;
+import com.example.loanorigination.util.LoanApplicationRequestBuilder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts the statements issued to load applicants with their history, so eager fetching or N+1
+ * access patterns show up as test failures instead of as production latency.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class EntityFetchPlanTest {
+
+    private static final int APPLICANTS = 4;
+    private static final int APPLICATIONS_EACH = 3;
+    private static final AtomicLong NEXT_SSN = new AtomicLong(3_000_000_000L);
+
+    @Autowired
+    private LoanDecisionService decisionService;
+
+    @Autowired
+    private ApplicantRepository applicantRepository;
+
+    @Autowired
+    private LoanOfferRepository loanOfferRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Long> applicantIds = new ArrayList<>();
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < APPLICANTS; i++) {
+            String ssn = String.valueOf(NEXT_SSN.getAndIncrement());
+            String email = "fetch-" + ssn + "@example.com";
+            for (int n = 0; n < APPLICATIONS_EACH; n++) {
+                decisionService.processLoanApplication(new LoanApplicationRequestBuilder()
+                        .withEmail(email)
+                        .withSsn(ssn)
+                        .build());
+            }
+            applicantIds.add(applicantRepository.findByEmail(email).orElseThrow().getId());
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void offerLoadsWithoutItsApplication() {
+        Long offerId = loanOfferRepository.findHistoryByApplicantId(applicantIds.get(0)).get(0).getId();
+        statistics.clear();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            LoanOffer offer = loanOfferRepository.findById(offerId).orElseThrow();
+            assertFalse(Hibernate.isInitialized(offer.getApplication()));
+        });
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void applicantsWithApplicationsLoadInOneQuery() {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Applicant> applicants = applicantRepository.findWithApplicationsByIdIn(applicantIds);
+            assertEquals(APPLICANTS, applicants.size());
+            applicants.forEach(applicant -> assertEquals(APPLICATIONS_EACH, applicant.getApplications().size()));
+        });
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void lazyApplicationsAreBatchFetchedRatherThanPerApplicant() {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Applicant> applicants = applicantRepository.findAllById(applicantIds);
+            applicants.forEach(applicant -> assertEquals(APPLICATIONS_EACH, applicant.getApplications().size()));
+        });
+
+        // One for the applicants and one IN-batch for all their collections (default_batch_fetch_size), not 1 + N
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void offerHistoryLoadsApplicationsAndApplicantInOneQuery() {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<LoanOffer> history = loanOfferRepository.findHistoryByApplicantId(applicantIds.get(0));
+            assertEquals(APPLICATIONS_EACH, history.size());
+            history.forEach(offer -> assertNotNull(offer.getApplication().getApplicant().getEmail()));
+        });
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.loanorigination.repository;
+
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * {@link SchemaMigrationTest} against PostgreSQL, the production database. Skipped when Docker is unavailable.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class PostgresSchemaMigrationTest extends SchemaMigrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+}
@@ -0,0 +1,112 @@
+package com.example.loanorigination.repository;
+
+import com.example.loanorigination.dto.LoanApplicationResponseDto;
+import com.example.loanorigination.service.LoanDecisionService;
+import com.example.loanorigination.util.LoanApplicationRequestBuilder;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the Flyway migrations on a fresh H2 database and checks the JPA mappings and index plan against the
+ * result. {@link PostgresSchemaMigrationTest} repeats the same checks on PostgreSQL.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:schema_migration")
+class SchemaMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private LoanDecisionService decisionService;
+
+    @Autowired
+    private LoanApplicationRepository loanApplicationRepository;
+
+    @Test
+    void shouldApplyEveryMigrationInOrder() {
+        MigrationInfo[] applied = flyway.info().applied();
+
+        assertEquals(0, flyway.info().pending().length);
+        assertTrue(applied.length >= 10);
+        for (int i = 1; i < applied.length; i++) {
+            assertTrue(applied[i].getVersion().compareTo(applied[i - 1].getVersion()) > 0);
+            assertTrue(applied[i].getState().isApplied());
+        }
+    }
+
+    @Test
+    void shouldMatchEntityMappings() {
+        assertDoesNotThrow(() -> entityManagerFactory.unwrap(SessionFactory.class)
+                .getSchemaManager()
+                .validateMappedObjects());
+    }
+
+    @Test
+    void shouldApplyHibernateBatchingAndPooledLoSettings() {
+        var properties = entityManagerFactory.getProperties();
+
+        assertEquals("50", String.valueOf(properties.get("hibernate.jdbc.batch_size")));
+        assertEquals("50", String.valueOf(properties.get("hibernate.default_batch_fetch_size")));
+        assertEquals("pooled-lo", String.valueOf(properties.get("hibernate.id.optimizer.pooled.preferred")));
+    }
+
+    @Test
+    void shouldHaveIndexesForQueryPatterns() throws Exception {
+        assertTrue(indexes("loan_application").containsAll(Set.of(
+                "idx_loan_application_reference",
+                "idx_loan_application_applicant_created",
+                "idx_loan_application_created")));
+        assertTrue(indexes("loan_offer").containsAll(Set.of(
+                "idx_loan_offer_application",
+                "idx_loan_offer_created")));
+        assertTrue(indexes("applicant").contains("idx_applicant_ssn_hash"));
+    }
+
+    @Test
+    void shouldWriteApplicationThroughMigratedSchema() {
+        LoanApplicationResponseDto response = decisionService.processLoanApplication(new LoanApplicationRequestBuilder()
+                .withEmail("schema.check@example.com")
+                .withSsn("7000000001")
+                .build());
+
+        assertTrue(loanApplicationRepository.existsByReference(response.getApplicationId()));
+    }
+
+    private Set<String> indexes(String table) throws Exception {
+        Set<String> names = new HashSet<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String name = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+            try (ResultSet rs = metaData.getIndexInfo(null, null, name, false, false)) {
+                while (rs.next()) {
+                    String index = rs.getString("INDEX_NAME");
+                    if (index != null) {
+                        names.add(index.toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.loanorigination.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AmortizationTableTest {
+
+    private final AmortizationTable table = new AmortizationTable(RateTier.DEFAULT_TIERS);
+
+    @Test
+    void shouldComputePaymentFromCachedFactor() {
+        assertEquals(101_792L, table.monthlyPaymentCents(2_000_000L, RateTier.STANDARD));
+        assertEquals(80_668L, table.monthlyPaymentCents(2_500_000L, RateTier.LOW_CREDIT_LINES));
+    }
+
+    @Test
+    void shouldFindTierByRateValue() {
+        assertEquals(RateTier.LOW_CREDIT_LINES, table.findTier(new BigDecimal("0.100"), 36).orElseThrow());
+        assertTrue(table.findTier(new BigDecimal("0.15"), 36).isEmpty());
+    }
+
+    @Test
+    void shouldBuildScheduleThatRepaysPrincipal() {
+        AmortizationSchedule schedule = table.schedule(2_000_000L, RateTier.STANDARD);
+
+        assertEquals(24, schedule.installments());
+        long repaid = 0;
+        for (long principal : schedule.principalCents()) {
+            repaid += principal;
+        }
+        assertEquals(2_000_000L, repaid);
+        assertEquals(0L, schedule.remainingBalanceCents()[23]);
+        assertEquals(101_792L, schedule.paymentCents(0));
+    }
+
+    @Test
+    void shouldUseNewTiersAfterRefresh() {
+        RateTier promo = RateTier.of(BigDecimal.valueOf(0.05), 12);
+        table.refresh(List.of(promo));
+
+        assertTrue(table.findTier(BigDecimal.valueOf(0.05), 12).isPresent());
+        assertTrue(table.findTier(BigDecimal.valueOf(0.20), 24).isEmpty());
+    }
+}
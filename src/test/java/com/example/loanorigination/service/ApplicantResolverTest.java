@@ -0,0 +1,66 @@
+package com.example.loanorigination.service;
+
+import com.example.loanorigination.dto.LoanApplicationRequestDto;
+import com.example.loanorigination.entity.Applicant;
+import com.example.loanorigination.mapper.LoanMapper;
+import com.example.loanorigination.repository.ApplicantRepository;
+import com.example.loanorigination.util.BlindIndexUtil;
+import com.example.loanorigination.util.CryptoUtil;
+import com.example.loanorigination.util.LoanApplicationRequestBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ApplicantResolverTest {
+
+    private final ApplicantRepository applicantRepository = mock(ApplicantRepository.class);
+    private final LoanMapper loanMapper = mock(LoanMapper.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ApplicantResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        when(loanMapper.toApplicant(any(), any())).thenReturn(new Applicant());
+        resolver = new ApplicantResolver(applicantRepository, loanMapper,
+                new CryptoUtil("1234567890123456"), new BlindIndexUtil("test-key"),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), meterRegistry,
+                100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void shouldAnswerRepeatApplicantFromCache() {
+        when(applicantRepository.findFirstBySsnHashOrEmail(any(), any()))
+                .thenReturn(Optional.of(Applicant.builder().id(42L).build()));
+        LoanApplicationRequestDto req = new LoanApplicationRequestBuilder().build();
+
+        assertEquals(42L, resolver.resolveId(req));
+        assertEquals(42L, resolver.resolveId(req));
+
+        verify(applicantRepository, times(1)).findFirstBySsnHashOrEmail(any(), any());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", ApplicantResolver.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void shouldUseExistingRowWhenConcurrentInsertWins() {
+        when(applicantRepository.findFirstBySsnHashOrEmail(any(), any()))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(Applicant.builder().id(7L).build()));
+        when(applicantRepository.save(any(Applicant.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate email"));
+
+        long id = resolver.resolveId(new LoanApplicationRequestBuilder().build());
+
+        assertEquals(7L, id);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.loanorigination.service;
+
+import com.example.loanorigination.repository.LoanApplicationRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"loan.import.chunk-size=5", "loan.import.parallelism=2"})
+class ApplicationImportJobTest {
+
+    private static final int RECORDS = 12;
+
+    @Autowired
+    private ApplicationImportJob importJob;
+
+    @Autowired
+    private LoanApplicationRepository loanApplicationRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void shouldImportCsvAndWriteResultsInFileOrder() throws Exception {
+        Path input = csv("a", 5_000_000_000L);
+        Path result = dir.resolve("result.ndjson");
+
+        ApplicationImportJob.Summary summary = importJob.run(input, DataFileFormat.CSV, result);
+
+        assertEquals(RECORDS, summary.records());
+        assertEquals(2, summary.rejected());
+        assertEquals(RECORDS - 2, summary.accepted());
+        List<JsonNode> lines = results(result);
+        assertEquals(RECORDS, lines.size());
+        for (int i = 0; i < RECORDS; i++) {
+            assertEquals(i + 2, lines.get(i).get("line").asLong());
+        }
+        assertEquals("REJECTED", lines.get(3).get("status").asText());
+        assertTrue(lines.get(3).get("errors").has("ssn"));
+        assertEquals("REJECTED", lines.get(7).get("status").asText());
+        assertEquals("Requested amount must be a number", lines.get(7).get("errors").get("record").asText());
+    }
+
+    @Test
+    void shouldResumeFromCheckpointWithoutInsertingTwice() throws Exception {
+        Path input = csv("b", 5_100_000_000L);
+        Path result = dir.resolve("result.ndjson");
+        importJob.run(input, DataFileFormat.CSV, result);
+        long applications = loanApplicationRepository.count();
+
+        // Simulate a crash after the first chunk was checkpointed but later chunks were already committed
+        List<String> written = Files.readAllLines(result, StandardCharsets.UTF_8);
+        long firstChunkBytes = 0;
+        for (String line : written.subList(0, 5)) {
+            firstChunkBytes += line.getBytes(StandardCharsets.UTF_8).length + 1;
+        }
+        Path checkpointFile = dir.resolve("result.ndjson.checkpoint");
+        Properties checkpoint = new Properties();
+        try (var reader = Files.newBufferedReader(checkpointFile)) {
+            checkpoint.load(reader);
+        }
+        checkpoint.setProperty("line", "6");
+        checkpoint.setProperty("resultBytes", Long.toString(firstChunkBytes));
+        try (var writer = Files.newBufferedWriter(checkpointFile)) {
+            checkpoint.store(writer, null);
+        }
+
+        ApplicationImportJob.Summary resumed = importJob.run(input, DataFileFormat.CSV, result);
+
+        assertEquals(RECORDS - 5, resumed.records());
+        assertEquals(0, resumed.accepted());
+        assertEquals(applications, loanApplicationRepository.count());
+        List<JsonNode> lines = results(result);
+        assertEquals(RECORDS, lines.size());
+        assertEquals("ALREADY_IMPORTED", lines.get(5).get("status").asText());
+    }
+
+    @Test
+    void shouldImportNdjson() throws Exception {
+        Path input = dir.resolve("applications.ndjson");
+        Files.write(input, List.of(
+                "{\"name\":\"Ann\",\"address\":\"1 Main St\",\"email\":\"ann.nd@example.com\",\"phone\":\"5551234567\","
+                        + "\"ssn\":\"5200000001\",\"requestedAmount\":20000}",
+                "{not json"), StandardCharsets.UTF_8);
+
+        ApplicationImportJob.Summary summary = importJob.run(input, DataFileFormat.NDJSON, dir.resolve("nd.ndjson"));
+
+        assertEquals(2, summary.records());
+        assertEquals(1, summary.accepted());
+        assertEquals(1, summary.rejected());
+        assertTrue(summary.recordsPerSecond() > 0);
+    }
+
+    private Path csv(String prefix, long firstSsn) throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add("name,address,email,phone,ssn,requested_amount");
+        for (int i = 0; i < RECORDS; i++) {
+            String ssn = i == 3 ? "123" : String.valueOf(firstSsn + i);
+            String amount = i == 7 ? "lots" : "20000";
+            lines.add("\"Doe, Jane\",\"1 Main St\"," + prefix + "-import-" + i + "@example.com,5551234567,"
+                    + ssn + "," + amount);
+        }
+        Path input = dir.resolve(prefix + ".csv");
+        Files.write(input, lines, StandardCharsets.UTF_8);
+        return input;
+    }
+
+    private List<JsonNode> results(Path result) throws Exception {
+        List<JsonNode> nodes = new ArrayList<>();
+        for (String line : Files.readAllLines(result, StandardCharsets.UTF_8)) {
+            nodes.add(objectMapper.readTree(line));
+        }
+        return nodes;
+    }
+}
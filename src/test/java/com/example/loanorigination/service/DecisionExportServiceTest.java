@@ -0,0 +1,84 @@
+package com.example.loanorigination.service;
+
+import com.example.loanorigination.util.LoanApplicationRequestBuilder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class DecisionExportServiceTest {
+
+    private static final String EMAIL = "export.check@example.com";
+
+    @Autowired
+    private DecisionExportService exportService;
+
+    @Autowired
+    private LoanDecisionService decisionService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        decisionService.processLoanApplication(new LoanApplicationRequestBuilder()
+                .withEmail(EMAIL)
+                .withSsn("4000000001")
+                .build());
+    }
+
+    @Test
+    void shouldWriteCsvWithHeaderAndMaskedApplicant() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exportService.export(out, DataFileFormat.CSV, null, null);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(String.join(",", DecisionExportService.COLUMNS), lines.get(0));
+        assertEquals(rows + 1, lines.size());
+        assertTrue(lines.stream().anyMatch(line -> line.contains("e****@example.com")));
+        assertTrue(lines.stream().noneMatch(line -> line.contains(EMAIL) || line.contains("4000000001")));
+    }
+
+    @Test
+    void shouldWriteOneJsonObjectPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exportService.export(out, DataFileFormat.NDJSON, null, null);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(rows, lines.size());
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertEquals(Arrays.asList(DecisionExportService.COLUMNS),
+                iterableToList(first.fieldNames()));
+    }
+
+    @Test
+    void shouldRestrictToDateRange() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+
+        assertEquals(0, exportService.export(out, DataFileFormat.NDJSON, tomorrow, tomorrow));
+        assertThrows(IllegalArgumentException.class,
+                () -> exportService.export(out, DataFileFormat.CSV, tomorrow, LocalDate.now()));
+    }
+
+    private static List<String> iterableToList(Iterator<String> iterator) {
+        List<String> values = new ArrayList<>();
+        iterator.forEachRemaining(values::add);
+        return values;
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.loanorigination.service;
+
+import com.example.loanorigination.util.CryptoUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DecisionJournalTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final CryptoUtil cryptoUtil = new CryptoUtil("1234567890123456");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void reopenReturnsOnlyUncommittedEntries() {
+        Path path = dir.resolve("journal");
+        try (DecisionJournal journal = new DecisionJournal(path, objectMapper, true, cryptoUtil)) {
+            assertTrue(journal.open().isEmpty());
+            journal.append(decision("a"));
+            journal.append(decision("b"));
+            journal.append(decision("c"));
+            journal.commit(List.of("a", "c"));
+        }
+
+        try (DecisionJournal journal = new DecisionJournal(path, objectMapper, true, cryptoUtil)) {
+            List<PendingDecision> recovered = journal.open();
+            assertEquals(1, recovered.size());
+            assertEquals(decision("b"), recovered.get(0));
+            assertEquals(1, journal.outstanding());
+        }
+    }
+
+    @Test
+    void truncatesOnceEverythingIsCommitted() throws IOException {
+        Path path = dir.resolve("journal");
+        try (DecisionJournal journal = new DecisionJournal(path, objectMapper, false, cryptoUtil)) {
+            journal.open();
+            journal.append(decision("a"));
+            journal.append(decision("b"));
+            journal.commit(List.of("a", "b"));
+            assertEquals(0, Files.size(path));
+        }
+    }
+
+    @Test
+    void skipsTornLastLine() throws IOException {
+        Path path = dir.resolve("journal");
+        try (DecisionJournal journal = new DecisionJournal(path, objectMapper, true, cryptoUtil)) {
+            journal.open();
+            journal.append(decision("a"));
+        }
+        Files.writeString(path, "{\"decision\":{\"reference\":\"b\",\"na", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        try (DecisionJournal journal = new DecisionJournal(path, objectMapper, true, cryptoUtil)) {
+            List<PendingDecision> recovered = journal.open();
+            assertEquals(List.of(decision("a")), recovered);
+        }
+    }
+
+    @Test
+    void encryptsContactFieldsAndRestrictsTheFileToItsOwner() throws IOException {
+        Path path = dir.resolve("journal");
+        try (DecisionJournal journal = new DecisionJournal(path, objectMapper, true, cryptoUtil)) {
+            journal.open();
+            journal.append(decision("a"));
+        }
+
+        String content = Files.readString(path, StandardCharsets.UTF_8);
+        for (String plaintext : List.of("Jane", "1 Main St", "a@example.com", "5551234567")) {
+            assertFalse(content.contains(plaintext), plaintext);
+        }
+        if (Files.getFileStore(path).supportsFileAttributeView(PosixFileAttributeView.class)) {
+            assertEquals(PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(path));
+        }
+        try (DecisionJournal journal = new DecisionJournal(path, objectMapper, true, cryptoUtil)) {
+            assertEquals(List.of(decision("a")), journal.open());
+        }
+    }
+
+    @Test
+    void readsPlaintextEntriesFromBeforeEncryption() throws IOException {
+        Path path = dir.resolve("journal");
+        Files.writeString(path, objectMapper.writeValueAsString(new DecisionJournal.Entry(decision("a"), null, null))
+                + "\n", StandardCharsets.UTF_8);
+
+        try (DecisionJournal journal = new DecisionJournal(path, objectMapper, true, cryptoUtil)) {
+            assertEquals(List.of(decision("a")), journal.open());
+        }
+        assertFalse(Files.readString(path, StandardCharsets.UTF_8).contains("a@example.com"));
+    }
+
+    @Test
+    void compactsWhenAnEntryStaysUncommitted() throws IOException {
+        Path path = dir.resolve("journal");
+        try (DecisionJournal journal = new DecisionJournal(path, objectMapper, false, cryptoUtil)) {
+            journal.open();
+            journal.append(decision("stuck"));
+            for (int i = 0; i < DecisionJournal.COMPACT_AFTER; i++) {
+                journal.append(decision("r" + i));
+                journal.commit(List.of("r" + i));
+            }
+            assertEquals(1, journal.outstanding());
+            assertTrue(Files.readAllLines(path).size() < 3);
+        }
+
+        try (DecisionJournal journal = new DecisionJournal(path, objectMapper, true, cryptoUtil)) {
+            assertEquals(List.of(decision("stuck")), journal.open());
+        }
+    }
+
+    private static PendingDecision decision(String reference) {
+        return new PendingDecision(reference, "Jane", "1 Main St", reference + "@example.com", "5551234567",
+                "v1:encrypted", "hash-" + reference, BigDecimal.valueOf(20000), 15, "APPROVED", null,
+                BigDecimal.valueOf(0.20), 24, BigDecimal.valueOf(1017.92), "2025.1", LocalDateTime.of(2025, 1, 1, 12, 0));
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.loanorigination.service;
+
+import com.example.loanorigination.exception.CreditBureauUnavailableException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpCreditBureauClientTest {
+
+    private StubCreditBureau bureau;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        bureau = new StubCreditBureau();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bureau.close();
+    }
+
+    @Test
+    void shouldReturnCreditLinesFromBureau() {
+        bureau.creditLines(42);
+
+        CreditProfile profile = client(Duration.ofSeconds(1), 2).fetch(inquiry("1"));
+
+        assertEquals(42, profile.creditLines());
+        assertEquals(1, bureau.requests());
+        assertEquals(1, meterRegistry.get("loan.credit.bureau").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void shouldHedgeSlowRequestAndTakeFirstAnswer() {
+        bureau.creditLines(7).delayFirst(1, Duration.ofSeconds(2));
+
+        long start = System.nanoTime();
+        CreditProfile profile = client(Duration.ofMillis(50), 2).fetch(inquiry("1"));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertEquals(7, profile.creditLines());
+        assertTrue(elapsed.compareTo(Duration.ofSeconds(1)) < 0, "hedged answer took " + elapsed);
+        assertEquals(2, bureau.requests());
+        assertEquals(1, meterRegistry.get("loan.credit.bureau.hedges").counter().count());
+    }
+
+    @Test
+    void shouldOpenCircuitAfterRepeatedFailures() {
+        bureau.status(503);
+        HttpCreditBureauClient client = client(Duration.ofSeconds(1), 1);
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(CreditBureauUnavailableException.class, () -> client.fetch(inquiry("1")));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, client.circuitState());
+
+        int requestsWhenOpened = bureau.requests();
+        assertThrows(CreditBureauUnavailableException.class, () -> client.fetch(inquiry("1")));
+        assertEquals(requestsWhenOpened, bureau.requests());
+    }
+
+    @Test
+    void shouldNotRetryClientErrors() {
+        bureau.status(422);
+
+        assertThrows(CreditBureauUnavailableException.class,
+                () -> client(Duration.ofSeconds(1), 3).fetch(inquiry("1")));
+        assertEquals(1, bureau.requests());
+    }
+
+    @Test
+    void shouldServeRepeatPullsFromCacheBySsnHash() {
+        CachingCreditDataProvider cached = new CachingCreditDataProvider(
+                client(Duration.ofSeconds(1), 2), Duration.ofHours(1), 100, meterRegistry);
+
+        cached.fetch(inquiry("1"));
+        cached.fetch(inquiry("1"));
+        List<CreditProfile> profiles = cached.fetchAll(List.of(inquiry("1"), inquiry("2"), inquiry("3")));
+
+        assertEquals(3, profiles.size());
+        assertEquals(3, bureau.requests());
+    }
+
+    private HttpCreditBureauClient client(Duration hedgeDelay, int maxAttempts) {
+        return new HttpCreditBureauClient(new HttpCreditBureauClient.Settings(
+                bureau.baseUrl(), Duration.ofMillis(500), Duration.ofSeconds(5), hedgeDelay, maxAttempts,
+                8, 3, Duration.ofMinutes(1)), new ObjectMapper(), meterRegistry);
+    }
+
+    private static CreditInquiry inquiry(String n) {
+        return new CreditInquiry("100000000" + n, "hash-" + n);
+    }
+}
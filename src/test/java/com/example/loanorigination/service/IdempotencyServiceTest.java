@@ -0,0 +1,190 @@
+package com.example.loanorigination.service;
+
+import com.example.loanorigination.dto.LoanApplicationRequestDto;
+import com.example.loanorigination.dto.LoanApplicationResponseDto;
+import com.example.loanorigination.entity.IdempotencyRecord;
+import com.example.loanorigination.exception.IdempotencyKeyReusedException;
+import com.example.loanorigination.exception.ServiceBusyException;
+import com.example.loanorigination.repository.IdempotencyRecordRepository;
+import com.example.loanorigination.util.LoanApplicationRequestBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class IdempotencyServiceTest {
+
+    private final IdempotencyRecordRepository repository = mock(IdempotencyRecordRepository.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LoanApplicationRequestDto request = new LoanApplicationRequestBuilder().build();
+    private IdempotencyService service;
+
+    @BeforeEach
+    void setUp() {
+        when(repository.reserve(anyString(), anyString(), anyString(), any())).thenReturn(1);
+        when(repository.complete(anyString(), anyString(), anyString())).thenReturn(1);
+        service = new IdempotencyService(repository, objectMapper, Duration.ofHours(1), 100, Duration.ofSeconds(5),
+                Duration.ofMinutes(2));
+    }
+
+    @Test
+    void shouldReturnCachedResponseWithoutRunningAgain() {
+        AtomicInteger runs = new AtomicInteger();
+
+        LoanApplicationResponseDto first = service.execute("key-1", request, store -> stored(store, runs));
+        LoanApplicationResponseDto retry = service.execute("key-1", request, store -> stored(store, runs));
+
+        assertEquals(1, runs.get());
+        assertSame(first, retry);
+        verify(repository, times(1)).reserve(eq("key-1"), anyString(), anyString(), any());
+        verify(repository, times(1)).complete(eq("key-1"), anyString(), anyString());
+    }
+
+    @Test
+    void shouldReplayResponseFromStoreAfterRestart() throws Exception {
+        reservedElsewhere("key-2", service.requestHash(request), objectMapper.writeValueAsString(response(7)));
+
+        LoanApplicationResponseDto replayed = service.execute("key-2", request, store -> fail("should not run again"));
+
+        assertEquals("run-7", replayed.getReason());
+    }
+
+    @Test
+    void shouldWaitForRequestRunningOnAnotherInstance() throws Exception {
+        String json = objectMapper.writeValueAsString(response(8));
+        String hash = service.requestHash(request);
+        when(repository.reserve(eq("key-3"), anyString(), anyString(), any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+        when(repository.findById("key-3")).thenReturn(
+                Optional.of(new IdempotencyRecord("key-3", null, hash, "other", LocalDateTime.now())),
+                Optional.of(new IdempotencyRecord("key-3", json, hash, "other", LocalDateTime.now())));
+
+        LoanApplicationResponseDto replayed = service.execute("key-3", request, store -> fail("should not run"));
+
+        assertEquals("run-8", replayed.getReason());
+    }
+
+    @Test
+    void shouldTakeOverReservationLeftByCrashedRequest() {
+        String hash = service.requestHash(request);
+        when(repository.reserve(eq("key-4"), anyString(), anyString(), any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+        when(repository.findById("key-4")).thenReturn(Optional.of(
+                new IdempotencyRecord("key-4", null, hash, "crashed", LocalDateTime.now().minusMinutes(5))));
+        when(repository.takeOver(eq("key-4"), eq("crashed"), anyString(), any())).thenReturn(1);
+        AtomicInteger runs = new AtomicInteger();
+
+        service.execute("key-4", request, store -> stored(store, runs));
+
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void shouldMakeConcurrentDuplicateWaitForFirstRequest() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<LoanApplicationResponseDto> first = CompletableFuture.supplyAsync(() ->
+                service.execute("key-5", request, store -> {
+                    started.countDown();
+                    await(release);
+                    return stored(store, runs);
+                }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<LoanApplicationResponseDto> duplicate = CompletableFuture.supplyAsync(() ->
+                service.execute("key-5", request, store -> stored(store, runs)));
+        release.countDown();
+
+        assertSame(first.get(5, TimeUnit.SECONDS), duplicate.get(5, TimeUnit.SECONDS));
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void shouldRejectSameKeyWithDifferentBody() {
+        LoanApplicationRequestDto other = new LoanApplicationRequestBuilder().withEmail("other@example.com").build();
+        AtomicInteger runs = new AtomicInteger();
+        service.execute("key-6", request, store -> stored(store, runs));
+
+        assertThrows(IdempotencyKeyReusedException.class,
+                () -> service.execute("key-6", other, store -> stored(store, runs)));
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void shouldRejectDifferentBodyAgainstStoredKey() throws Exception {
+        LoanApplicationRequestDto other = new LoanApplicationRequestBuilder().withEmail("other@example.com").build();
+        reservedElsewhere("key-7", service.requestHash(request), objectMapper.writeValueAsString(response(9)));
+
+        assertThrows(IdempotencyKeyReusedException.class,
+                () -> service.execute("key-7", other, store -> fail("should not run")));
+    }
+
+    @Test
+    void shouldReleaseReservationWhenDecisionFails() {
+        assertThrows(IllegalStateException.class, () -> service.execute("key-8", request, store -> {
+            throw new IllegalStateException("bureau down");
+        }));
+
+        verify(repository).release(eq("key-8"), anyString());
+        verify(repository, never()).complete(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void shouldFailTheWriteWhenReservationWasLost() {
+        when(repository.complete(eq("key-9"), anyString(), anyString())).thenReturn(0);
+
+        assertThrows(ServiceBusyException.class,
+                () -> service.execute("key-9", request, store -> stored(store, new AtomicInteger())));
+    }
+
+    @Test
+    void shouldRejectOversizedKeys() {
+        String key = "k".repeat(IdempotencyService.MAX_KEY_LENGTH + 1);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> service.execute(key, request, store -> response(1)));
+    }
+
+    private void reservedElsewhere(String key, String hash, String json) {
+        when(repository.reserve(eq(key), anyString(), anyString(), any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+        when(repository.findById(key)).thenReturn(
+                Optional.of(new IdempotencyRecord(key, json, hash, "other", LocalDateTime.now())));
+    }
+
+    private static LoanApplicationResponseDto stored(Consumer<LoanApplicationResponseDto> store,
+                                                     AtomicInteger runs) {
+        LoanApplicationResponseDto response = response(runs.incrementAndGet());
+        store.accept(response);
+        return response;
+    }
+
+    private static LoanApplicationResponseDto response(int run) {
+        return new LoanApplicationResponseDto("app-" + run, "DENIED", "run-" + run, null);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
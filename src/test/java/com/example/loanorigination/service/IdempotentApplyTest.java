@@ -0,0 +1,71 @@
+package com.example.loanorigination.service;
+
+import com.example.loanorigination.dto.LoanApplicationRequestDto;
+import com.example.loanorigination.dto.LoanApplicationResponseDto;
+import com.example.loanorigination.exception.IdempotencyKeyReusedException;
+import com.example.loanorigination.repository.IdempotencyRecordRepository;
+import com.example.loanorigination.repository.LoanApplicationRepository;
+import com.example.loanorigination.util.LoanApplicationRequestBuilder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link IdempotencyService} with the real decision path and database: the stored response commits or rolls back
+ * with the application.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:idempotent_apply")
+class IdempotentApplyTest {
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private LoanDecisionService decisionService;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRepository;
+
+    @Autowired
+    private LoanApplicationRepository loanApplicationRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void shouldWriteOneApplicationPerKey() {
+        LoanApplicationRequestDto request = new LoanApplicationRequestBuilder()
+                .withEmail("idempotent.apply@example.com")
+                .withSsn("6100000001")
+                .build();
+        long before = loanApplicationRepository.count();
+
+        LoanApplicationResponseDto first = idempotencyService.execute("apply-1", request,
+                store -> decisionService.processLoanApplication(request, store));
+        LoanApplicationResponseDto retry = idempotencyService.execute("apply-1", request,
+                store -> decisionService.processLoanApplication(request, store));
+
+        assertEquals(first.getApplicationId(), retry.getApplicationId());
+        assertEquals(before + 1, loanApplicationRepository.count());
+        assertNotNull(idempotencyRepository.findById("apply-1").orElseThrow().getResponseBody());
+        assertThrows(IdempotencyKeyReusedException.class, () -> idempotencyService.execute("apply-1",
+                new LoanApplicationRequestBuilder().withEmail("someone.else@example.com").build(),
+                store -> decisionService.processLoanApplication(request, store)));
+    }
+
+    @Test
+    void shouldReleaseKeyWhenWriteTransactionRollsBack() {
+        LoanApplicationRequestDto request = new LoanApplicationRequestBuilder().build();
+
+        assertThrows(IllegalStateException.class, () -> idempotencyService.execute("apply-2", request,
+                store -> transactionTemplate.execute(status -> {
+                    store.accept(LoanApplicationResponseDto.builder().applicationId("app").decision("DENIED").build());
+                    throw new IllegalStateException("offer insert failed");
+                })));
+
+        assertTrue(idempotencyRepository.findById("apply-2").isEmpty());
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.loanorigination.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoanDecisionEngineTest {
+
+    private final LoanDecisionEngine engine = new LoanDecisionEngine(new AmortizationTable(RateTier.DEFAULT_TIERS));
+
+    @Test
+    void shouldDenyAmountsOutsideRangeWithPreallocatedResult() {
+        LoanDecision denied = engine.evaluate(999_999L, 5);
+
+        assertEquals("amount_out_of_range", denied.reasonCode());
+        assertEquals("Requested amount outside 10k–50k range", denied.reason());
+        assertSame(denied, engine.evaluate(5_000_001L, 5));
+    }
+
+    @Test
+    void shouldDenyWhenCreditLinesAbove50() {
+        LoanDecision denied = engine.evaluate(2_000_000L, 51);
+
+        assertEquals("too_many_credit_lines", denied.reasonCode());
+        assertEquals("Credit lines > 50", denied.reason());
+    }
+
+    @Test
+    void shouldApproveBoundaryAmounts() {
+        assertTrue(engine.evaluate(LoanRules.DEFAULT.minAmountCents(), 50).approved());
+        assertTrue(engine.evaluate(LoanRules.DEFAULT.maxAmountCents(), 0).approved());
+    }
+
+    @Test
+    void shouldPriceLowCreditLinesAt10PercentOver36Months() {
+        LoanDecision decision = engine.evaluate(2_500_000L, 9);
+
+        assertEquals("APPROVED", decision.decision());
+        assertEquals(BigDecimal.valueOf(0.10), decision.tier().annualRate());
+        assertEquals(36, decision.tier().termMonths());
+        assertEquals(80_668L, decision.monthlyPaymentCents());
+    }
+
+    @Test
+    void shouldPriceStandardCreditLinesAt20PercentOver24Months() {
+        LoanDecision decision = engine.evaluate(2_000_000L, 10);
+
+        assertEquals(BigDecimal.valueOf(0.20), decision.tier().annualRate());
+        assertEquals(24, decision.tier().termMonths());
+        assertEquals(101_792L, decision.monthlyPaymentCents());
+    }
+}
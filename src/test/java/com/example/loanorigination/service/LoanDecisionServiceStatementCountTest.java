@@ -0,0 +1,76 @@
+package com.example.loanorigination.service;
+
+import com.example.loanorigination.dto.LoanApplicationBatchResponseDto;
+import com.example.loanorigination.dto.LoanApplicationRequestDto;
+import com.example.loanorigination.util.LoanApplicationRequestBuilder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Counts JDBC statements issued per application.
+ * With IDENTITY ids every insert ran as its own statement (3 per application plus the lookup),
+ * so a batch of N applications cost 3N + 1 statements. With pooled sequence ids Hibernate
+ * groups the inserts into JDBC batches and the count stays flat as the batch grows.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class LoanDecisionServiceStatementCountTest {
+
+    private static final int SMALL_BATCH = 10;
+    private static final int LARGE_BATCH = 40;
+
+    @Autowired
+    private LoanDecisionService service;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void shouldKeepStatementCountFlatAsTheBatchGrows() {
+        long small = statementsFor(SMALL_BATCH, 0);
+        long large = statementsFor(LARGE_BATCH, SMALL_BATCH);
+
+        // IDENTITY ids grow by 3 statements per application; batched inserts only gain the odd sequence fetch
+        long identityBaseline = 3L * LARGE_BATCH + 1;
+        assertTrue(large - small <= 3,
+                "statements grew from " + small + " to " + large + " for " + (LARGE_BATCH - SMALL_BATCH)
+                        + " more applications (IDENTITY would add " + 3 * (LARGE_BATCH - SMALL_BATCH) + ")");
+        // 1 lookup + at most 2 pooled sequence fetches per table + 1 insert batch per table
+        assertTrue(large <= 10,
+                "expected batched inserts but saw " + large + " statements (IDENTITY baseline " + identityBaseline + ")");
+    }
+
+    private long statementsFor(int applications, int offset) {
+        List<LoanApplicationRequestDto> requests = new ArrayList<>();
+        for (int i = offset; i < offset + applications; i++) {
+            requests.add(new LoanApplicationRequestBuilder()
+                    .withEmail("batch-" + i + "@example.com")
+                    .withSsn(String.valueOf(1_000_000_000L + i))
+                    .build());
+        }
+
+        statistics.clear();
+        LoanApplicationBatchResponseDto response = service.processLoanApplicationBatch(requests);
+
+        assertEquals(applications, response.getAccepted());
+        assertEquals(3L * applications, statistics.getEntityInsertCount());
+        return statistics.getPrepareStatementCount();
+    }
+}
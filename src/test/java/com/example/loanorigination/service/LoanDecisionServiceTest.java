@@ -1,50 +1,84 @@
 package com.example.loanorigination.service;
 
+import com.example.loanorigination.dto.LoanApplicationBatchResponseDto;
 import com.example.loanorigination.dto.LoanApplicationRequestDto;
 import com.example.loanorigination.dto.LoanApplicationResponseDto;
 import com.example.loanorigination.dto.LoanOfferDto;
 import com.example.loanorigination.entity.Applicant;
 import com.example.loanorigination.entity.LoanApplication;
 import com.example.loanorigination.entity.LoanOffer;
+import com.example.loanorigination.exception.InvalidRequestException;
 import com.example.loanorigination.mapper.LoanMapper;
 import com.example.loanorigination.repository.ApplicantRepository;
 import com.example.loanorigination.repository.LoanApplicationRepository;
 import com.example.loanorigination.repository.LoanOfferRepository;
+import com.example.loanorigination.util.BlindIndexUtil;
 import com.example.loanorigination.util.LoanApplicationRequestBuilder;
+import com.example.loanorigination.validation.LoanApplicationRequestValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
-import java.util.Optional;
-import java.util.Random;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
 class LoanDecisionServiceTest {
 
+    private static final int PERMITS = 10;
+
     @Mock private LoanApplicationRepository loanApplicationRepository;
     @Mock private ApplicantRepository applicantRepository;
     @Mock private LoanOfferRepository loanOfferRepository;
+    @Mock private LoanApplicationRequestValidator requestValidator;
+    @Mock private BlindIndexUtil blindIndexUtil;
+    @Mock private ApplicantResolver applicantResolver;
+    @Spy private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
     @Mock private LoanMapper loanMapper;
-    @Mock private Random rng;
+    @Mock private CreditDataProvider creditDataProvider;
+    @Spy private LoanDecisionEngine decisionEngine = new LoanDecisionEngine(new AmortizationTable(RateTier.DEFAULT_TIERS));
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    @Spy private LoanMetrics metrics = new LoanMetrics(meterRegistry);
+    @Mock private WriteBehindPersister writeBehind;
+    @Spy private DecisionConcurrencyLimiter concurrencyLimiter = new DecisionConcurrencyLimiter(PERMITS, Duration.ofSeconds(1));
 
     @InjectMocks private LoanDecisionService service;
 
     @BeforeEach
     void setUp() {
         // Applicant mock
-        when(applicantRepository.findByEmail(any()))
-                .thenReturn(Optional.of(new Applicant()));
+        when(blindIndexUtil.hashSsn(any())).thenAnswer(invocation -> "hash-" + invocation.getArgument(0));
+        when(applicantResolver.resolveId(any())).thenReturn(1L);
+        when(applicantRepository.getReferenceById(1L)).thenReturn(new Applicant());
 
         // MapStruct mocks
         when(loanMapper.toLoanApplication(any(), any())).thenAnswer(invocation -> {
@@ -73,17 +107,21 @@ class LoanDecisionServiceTest {
             return dto;
         });
 
-        // Repository + RNG mocks
-        when(loanApplicationRepository.save(any()))
+        // Repository + credit data mocks
+        when(loanApplicationRepository.saveAndFlush(any()))
                 .thenAnswer(invocation -> invocation.getArgument(0));
-        when(rng.nextInt(101)).thenReturn(15); // default, override per test if needed
+        when(creditDataProvider.fetchAll(anyList())).thenAnswer(invocation -> {
+            List<CreditInquiry> inquiries = invocation.getArgument(0);
+            return inquiries.stream().map(creditDataProvider::fetch).toList();
+        });
+        givenCreditLines(15); // default, override per test if needed
     }
 
 
     @Test
     void shouldApproveLoanWhenCreditLinesLessThan50() {
         LoanApplicationRequestDto request = new LoanApplicationRequestBuilder().build();
-        when(rng.nextInt(101)).thenReturn(30);
+        givenCreditLines(30);
 
         LoanApplicationResponseDto response = service.processLoanApplication(request);
 
@@ -98,7 +136,7 @@ class LoanDecisionServiceTest {
     @Test
     void shouldDenyLoanWhenCreditLinesGreaterThan50() {
         LoanApplicationRequestDto request = new LoanApplicationRequestBuilder().build();
-        when(rng.nextInt(101)).thenReturn(55);
+        givenCreditLines(55);
 
         LoanApplicationResponseDto response = service.processLoanApplication(request);
 
@@ -110,7 +148,7 @@ class LoanDecisionServiceTest {
     void shouldDenyWhenLoanAmountLessThan10k() {
         LoanApplicationRequestDto request =
                 new LoanApplicationRequestBuilder().withRequestedAmount(BigDecimal.valueOf(1000)).build();
-        when(rng.nextInt(101)).thenReturn(29);
+        givenCreditLines(29);
 
         LoanApplicationResponseDto res = service.processLoanApplication(request);
 
@@ -118,11 +156,46 @@ class LoanDecisionServiceTest {
         assertEquals("Requested amount outside 10k–50k range", res.getReason());
     }
 
+    @Test
+    void shouldHoldDecisionPermitOnlyForTheDatabasePhase() {
+        int[] permits = new int[2];
+        when(creditDataProvider.fetch(any())).thenAnswer(invocation -> {
+            permits[0] = concurrencyLimiter.availablePermits();
+            return new CreditProfile(30);
+        });
+        when(loanOfferRepository.saveAndFlush(any())).thenAnswer(invocation -> {
+            permits[1] = concurrencyLimiter.availablePermits();
+            return invocation.getArgument(0);
+        });
+
+        service.processLoanApplication(new LoanApplicationRequestBuilder().build());
+
+        assertEquals(PERMITS, permits[0]);
+        assertEquals(PERMITS - 1, permits[1]);
+        assertEquals(PERMITS, concurrencyLimiter.availablePermits());
+    }
+
+    @Test
+    void shouldRecordStageTimersAndDecisionCounters() {
+        givenCreditLines(30);
+        service.processLoanApplication(new LoanApplicationRequestBuilder().build());
+        givenCreditLines(55);
+        service.processLoanApplication(new LoanApplicationRequestBuilder().build());
+
+        for (String stage : List.of("credit", "applicant", "application_save", "decision", "offer_save")) {
+            assertEquals(2, meterRegistry.get("loan.apply.stage").tag("stage", stage).timer().count(), stage);
+        }
+        assertEquals(1, meterRegistry.get("loan.decisions")
+                .tags("decision", "APPROVED", "reason", "approved").counter().count());
+        assertEquals(1, meterRegistry.get("loan.decisions")
+                .tags("decision", "DENIED", "reason", "too_many_credit_lines").counter().count());
+    }
+
     @Test
     void shouldDenyWhenLoanAmountGreaterThan50k() {
         LoanApplicationRequestDto request =
                 new LoanApplicationRequestBuilder().withRequestedAmount(BigDecimal.valueOf(100000)).build();
-        when(rng.nextInt(101)).thenReturn(29);
+        givenCreditLines(29);
 
         LoanApplicationResponseDto res = service.processLoanApplication(request);
 
@@ -132,7 +205,7 @@ class LoanDecisionServiceTest {
     @Test
     void shouldApproveWith24MonthTermAnd20PercentInterestWhenCreditLinesBetween10And50() {
         LoanApplicationRequestDto request = new LoanApplicationRequestBuilder().build();
-        when(rng.nextInt(101)).thenReturn(15);
+        givenCreditLines(15);
 
         LoanApplicationResponseDto res = service.processLoanApplication(request);
 
@@ -144,7 +217,7 @@ class LoanDecisionServiceTest {
     @Test
     void shouldApproveWith36MonthTermAnd10PercentInterestWhenCreditLinesBelow10() {
         LoanApplicationRequestDto request = new LoanApplicationRequestBuilder().build();
-        when(rng.nextInt(101)).thenReturn(5);
+        givenCreditLines(5);
 
         LoanApplicationResponseDto res = service.processLoanApplication(request);
 
@@ -152,4 +225,109 @@ class LoanDecisionServiceTest {
         assertEquals(36, res.getOffer().getTermMonths());
         assertEquals(BigDecimal.valueOf(0.10), res.getOffer().getInterestRate());
     }
+
+    @Test
+    void shouldProcessBatchInSubmissionOrderAndCreateRepeatApplicantOnce() {
+        // same SSN under two emails: deduplicated through the blind index
+        LoanApplicationRequestDto first = new LoanApplicationRequestBuilder().build();
+        LoanApplicationRequestDto second = new LoanApplicationRequestBuilder()
+                .withEmail("john.other@example.com")
+                .withRequestedAmount(BigDecimal.valueOf(1000))
+                .build();
+        when(requestValidator.errors(any())).thenReturn(Map.of());
+        when(applicantRepository.findBySsnHashInOrEmailIn(anyCollection(), anyCollection())).thenReturn(List.of());
+        when(applicantResolver.newApplicant(any(), any())).thenAnswer(invocation -> {
+            Applicant applicant = new Applicant();
+            applicant.setEmail(invocation.getArgument(0, LoanApplicationRequestDto.class).getEmail());
+            applicant.setSsnHash(invocation.getArgument(1, String.class));
+            return applicant;
+        });
+        givenCreditLines(30);
+
+        LoanApplicationBatchResponseDto res = service.processLoanApplicationBatch(List.of(first, second));
+
+        assertEquals(2, res.getAccepted());
+        assertEquals(0, res.getRejected());
+        assertEquals(0, res.getResults().get(0).getIndex());
+        assertEquals("APPROVED", res.getResults().get(0).getResult().getDecision());
+        assertEquals(1, res.getResults().get(1).getIndex());
+        assertEquals("DENIED", res.getResults().get(1).getResult().getDecision());
+        verify(applicantRepository, times(1)).findBySsnHashInOrEmailIn(anyCollection(), anyCollection());
+        verify(applicantRepository).saveAll(argThat(applicants -> sizeOf(applicants) == 1));
+        verify(loanApplicationRepository).saveAll(argThat(applications -> sizeOf(applications) == 2));
+        verify(loanOfferRepository).saveAll(argThat(offers -> sizeOf(offers) == 2));
+    }
+
+    @Test
+    void shouldReturnDecisionWithoutWritingWhenWriteBehindEnabled() {
+        when(writeBehind.isEnabled()).thenReturn(true);
+        when(applicantResolver.newApplicant(any(), any())).thenAnswer(invocation -> {
+            Applicant applicant = new Applicant();
+            applicant.setEmail(invocation.getArgument(0, LoanApplicationRequestDto.class).getEmail());
+            applicant.setSsnHash(invocation.getArgument(1, String.class));
+            return applicant;
+        });
+        givenCreditLines(30);
+
+        LoanApplicationResponseDto res = service.processLoanApplication(new LoanApplicationRequestBuilder().build());
+
+        assertEquals("APPROVED", res.getDecision());
+        verify(writeBehind).submit(argThat(pending -> "APPROVED".equals(pending.decision())
+                && pending.ssnHash().startsWith("hash-")));
+        verify(applicantResolver, never()).resolveId(any());
+        verify(loanApplicationRepository, never()).saveAndFlush(any());
+        verify(loanOfferRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void shouldPullCreditAndDecideBeforeOpeningAnyTransaction() {
+        service.processLoanApplication(new LoanApplicationRequestBuilder().build());
+
+        InOrder order = inOrder(creditDataProvider, decisionEngine, applicantResolver, transactionTemplate,
+                loanApplicationRepository);
+        order.verify(creditDataProvider).fetch(argThat(inquiry -> inquiry.ssnHash().startsWith("hash-")));
+        order.verify(decisionEngine).evaluate(anyLong(), anyInt());
+        order.verify(applicantResolver).resolveId(any());
+        order.verify(transactionTemplate).executeWithoutResult(any());
+        order.verify(loanApplicationRepository).saveAndFlush(argThat(app -> app.getApplicant() != null));
+    }
+
+    @Test
+    void shouldPullBatchCreditOnceForValidItemsOnly() {
+        LoanApplicationRequestDto valid = new LoanApplicationRequestBuilder().build();
+        LoanApplicationRequestDto invalid = new LoanApplicationRequestBuilder().withSsn("123").build();
+        when(requestValidator.errors(valid)).thenReturn(Map.of());
+        when(requestValidator.errors(invalid))
+                .thenReturn(Map.of("ssn", "SSN must contain exactly 10 digits with no spaces or dashes"));
+        when(applicantRepository.findBySsnHashInOrEmailIn(anyCollection(), anyCollection())).thenReturn(List.of());
+        when(applicantResolver.newApplicant(any(), any())).thenReturn(new Applicant());
+
+        LoanApplicationBatchResponseDto res = service.processLoanApplicationBatch(List.of(valid, invalid));
+
+        assertEquals(1, res.getAccepted());
+        verify(creditDataProvider).fetchAll(argThat(inquiries -> inquiries.size() == 1));
+        InOrder order = inOrder(creditDataProvider, transactionTemplate);
+        order.verify(creditDataProvider).fetchAll(anyList());
+        order.verify(transactionTemplate).execute(any());
+    }
+
+    @Test
+    void shouldRejectBatchLargerThanMaximum() {
+        List<LoanApplicationRequestDto> requests = Collections.nCopies(
+                LoanDecisionService.MAX_BATCH_SIZE + 1, new LoanApplicationRequestBuilder().build());
+
+        assertThrows(InvalidRequestException.class, () -> service.processLoanApplicationBatch(requests));
+    }
+
+    private void givenCreditLines(int creditLines) {
+        when(creditDataProvider.fetch(any())).thenReturn(new CreditProfile(creditLines));
+    }
+
+    private static int sizeOf(Iterable<?> entities) {
+        int size = 0;
+        for (Object ignored : entities) {
+            size++;
+        }
+        return size;
+    }
 }
@@ -0,0 +1,102 @@
+package com.example.loanorigination.service;
+
+import com.example.loanorigination.dto.ApplicationSummaryDto;
+import com.example.loanorigination.dto.KeysetPageDto;
+import com.example.loanorigination.dto.OfferSummaryDto;
+import com.example.loanorigination.exception.ResourceNotFoundException;
+import com.example.loanorigination.repository.ApplicantRepository;
+import com.example.loanorigination.util.LoanApplicationRequestBuilder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class LoanQueryServiceTest {
+
+    private static final int APPLICATIONS = 5;
+
+    @Autowired
+    private LoanDecisionService decisionService;
+
+    @Autowired
+    private LoanQueryService queryService;
+
+    @Autowired
+    private ApplicantRepository applicantRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldPageThroughApplicationsNewestFirstWithoutGapsOrRepeats() {
+        long applicantId = seed("keyset-apps@example.com", "2000000001");
+
+        List<ApplicationSummaryDto> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            KeysetPageDto<ApplicationSummaryDto> page = queryService.applications(applicantId, cursor, 2);
+            seen.addAll(page.getItems());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(APPLICATIONS, seen.size());
+        assertEquals(APPLICATIONS, new HashSet<>(seen.stream().map(ApplicationSummaryDto::id).toList()).size());
+        assertEquals(seen.stream().sorted(Comparator.comparing(ApplicationSummaryDto::createdAt)
+                .thenComparing(ApplicationSummaryDto::id).reversed()).toList(), seen);
+        assertTrue(seen.stream().allMatch(row -> row.decision() != null && row.applicationId() != null));
+    }
+
+    @Test
+    void shouldPageThroughOffers() {
+        long applicantId = seed("keyset-offers@example.com", "2000000002");
+
+        KeysetPageDto<OfferSummaryDto> first = queryService.offers(applicantId, null, 3);
+        KeysetPageDto<OfferSummaryDto> second = queryService.offers(applicantId, first.getNextCursor(), 3);
+
+        assertEquals(3, first.getItems().size());
+        assertEquals(APPLICATIONS - 3, second.getItems().size());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void shouldReturnOldRowsWhenArchivingIsOff() {
+        long applicantId = seed("keyset-old@example.com", "2000000003");
+        LocalDateTime longAgo = LocalDateTime.now().minusYears(3);
+        jdbcTemplate.update("UPDATE loan_application SET created_at = ? WHERE applicant_id = ?", longAgo, applicantId);
+        jdbcTemplate.update("UPDATE loan_offer SET created_at = ? WHERE application_id IN "
+                + "(SELECT id FROM loan_application WHERE applicant_id = ?)", longAgo, applicantId);
+
+        assertEquals(APPLICATIONS, queryService.applications(applicantId, null, null).getItems().size());
+        assertEquals(APPLICATIONS, queryService.offers(applicantId, null, null).getItems().size());
+    }
+
+    @Test
+    void shouldRejectUnknownApplicantAndBadInput() {
+        assertThrows(ResourceNotFoundException.class, () -> queryService.applications(Long.MAX_VALUE, null, null));
+        assertThrows(IllegalArgumentException.class, () -> queryService.applications(1L, "not-a-cursor", null));
+        assertThrows(IllegalArgumentException.class,
+                () -> queryService.offers(1L, null, LoanQueryService.MAX_PAGE_SIZE + 1));
+    }
+
+    private long seed(String email, String ssn) {
+        for (int i = 0; i < APPLICATIONS; i++) {
+            decisionService.processLoanApplication(new LoanApplicationRequestBuilder()
+                    .withEmail(email)
+                    .withSsn(ssn)
+                    .build());
+        }
+        return applicantRepository.findByEmail(email).orElseThrow().getId();
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.loanorigination.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoanRulesTest {
+
+    @TempDir
+    Path dir;
+
+    private final LoanDecisionEngine engine = new LoanDecisionEngine(new AmortizationTable(RateTier.DEFAULT_TIERS));
+
+    @Test
+    void shouldPriceByCreditLineTierAndRecordVersion() {
+        LoanRules rules = LoanRules.compile(new LoanRules.Definition("promo",
+                new LoanRules.AmountBand(BigDecimal.valueOf(5_000), BigDecimal.valueOf(75_000)),
+                List.of(new LoanRules.CreditLineTier(4, new BigDecimal("0.05"), 12),
+                        new LoanRules.CreditLineTier(30, new BigDecimal("0.15"), 48))));
+
+        engine.apply(rules);
+
+        LoanDecision low = engine.evaluate(600_000L, 4);
+        assertEquals(12, low.tier().termMonths());
+        assertEquals("promo", low.rulesVersion());
+        assertEquals(48, engine.evaluate(7_500_000L, 5).tier().termMonths());
+        assertEquals("Credit lines > 30", engine.evaluate(600_000L, 31).reason());
+        assertEquals("promo", engine.evaluate(600_000L, 31).rulesVersion());
+    }
+
+    @Test
+    void shouldRejectTiersOutOfOrder() {
+        LoanRules.Definition definition = new LoanRules.Definition("bad",
+                new LoanRules.AmountBand(BigDecimal.ONE, BigDecimal.TEN),
+                List.of(new LoanRules.CreditLineTier(20, BigDecimal.ONE, 12),
+                        new LoanRules.CreditLineTier(10, BigDecimal.ONE, 12)));
+
+        assertThrows(IllegalArgumentException.class, () -> LoanRules.compile(definition));
+    }
+
+    @Test
+    void shouldLoadBundledRulesMatchingTheDefaults() {
+        new LoanRulesLoader(engine, new DefaultResourceLoader(), "classpath:loan-rules.yml");
+
+        assertEquals("2025.1", engine.rules().version());
+        assertEquals(LoanRules.DEFAULT.minAmountCents(), engine.rules().minAmountCents());
+        assertEquals(LoanRules.DEFAULT.maxAmountCents(), engine.rules().maxAmountCents());
+        assertEquals(LoanRules.DEFAULT.maxCreditLines(), engine.rules().maxCreditLines());
+        assertEquals(LoanRules.DEFAULT.tiers(), engine.rules().tiers());
+    }
+
+    @Test
+    void shouldReloadChangedFileAndKeepPreviousVersionWhenInvalid() throws Exception {
+        Path file = dir.resolve("rules.yml");
+        write(file, "v1", 50, 1);
+        LoanRulesLoader loader = new LoanRulesLoader(engine, new DefaultResourceLoader(), file.toUri().toString());
+        assertEquals("v1", engine.rules().version());
+
+        assertFalse(loader.refresh());
+
+        write(file, "v2", 20, 2);
+        assertTrue(loader.refresh());
+        assertEquals("v2", engine.rules().version());
+        assertFalse(engine.evaluate(2_000_000L, 21).approved());
+
+        Files.writeString(file, "loan-rules:\n  version: v3\n", StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(3)));
+        assertFalse(loader.refresh());
+        assertEquals("v2", engine.rules().version());
+    }
+
+    private static void write(Path file, String version, int maxCreditLines, int secondsAhead) throws Exception {
+        Files.writeString(file, """
+                loan-rules:
+                  version: %s
+                  amount:
+                    min: 10000
+                    max: 50000
+                  credit-line-tiers:
+                    - max-credit-lines: %d
+                      annual-rate: 0.20
+                      term-months: 24
+                """.formatted(version, maxCreditLines), StandardCharsets.UTF_8);
+        // Filesystem timestamps can be coarse; make each write visibly newer
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(secondsAhead)));
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.loanorigination.service;
+
+import com.example.loanorigination.repository.ApplicantRepository;
+import com.example.loanorigination.util.LoanApplicationRequestBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the PostgreSQL partitioning migration and {@link PartitionArchiver} against a real database. Skipped when
+ * Docker is unavailable.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {"loan.archive.enabled=true", "loan.archive.cron=-"})
+class PartitionArchiverTest {
+
+    private static final int OLD_ROWS = 3;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @TempDir
+    static Path archiveDirectory;
+
+    @DynamicPropertySource
+    static void archiveProperties(DynamicPropertyRegistry registry) {
+        registry.add("loan.archive.directory", archiveDirectory::toString);
+    }
+
+    @Autowired
+    private PartitionArchiver archiver;
+
+    @Autowired
+    private LoanDecisionService decisionService;
+
+    @Autowired
+    private ApplicantRepository applicantRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldPruneArchiveAndDropExpiredMonths() throws Exception {
+        LocalDate today = LocalDate.now();
+        YearMonth expired = YearMonth.from(today).minusMonths(6);
+        long applicantId = seedExpiredMonth(expired);
+        String oldApplications = PartitionArchiver.partitionName("loan_application", expired);
+        String oldOffers = PartitionArchiver.partitionName("loan_offer", expired);
+
+        assertTrue(archiver.isPartitioned());
+        String plan = String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN SELECT * FROM loan_application WHERE applicant_id = ? AND created_at >= ?", String.class,
+                applicantId, PartitionArchiver.retainedSince(today, Duration.ofDays(90))));
+        assertFalse(plan.contains(oldApplications), plan);
+        assertTrue(plan.contains(PartitionArchiver.partitionName("loan_application", YearMonth.from(today))), plan);
+
+        List<PartitionArchiver.Archived> archived = archiver.archiveExpired(today);
+
+        assertEquals(List.of(oldOffers, oldApplications),
+                archived.stream().map(PartitionArchiver.Archived::partition).toList());
+        for (PartitionArchiver.Archived partition : archived) {
+            assertEquals(OLD_ROWS, partition.rows());
+            List<String> lines = gunzip(partition.file());
+            assertTrue(lines.get(0).startsWith("id,"), lines.get(0));
+            assertEquals(OLD_ROWS + 1, lines.size());
+            assertNull(jdbcTemplate.queryForObject("SELECT to_regclass(?)::text", String.class, partition.partition()));
+        }
+        try (Stream<Path> files = Files.list(archiveDirectory)) {
+            assertTrue(files.noneMatch(file -> file.toString().endsWith(".partial")));
+        }
+        assertEquals(1, count("loan_application", applicantId));
+        assertTrue(archiver.archiveExpired(today).isEmpty());
+    }
+
+    @Test
+    void shouldCreateUpcomingPartitionsIdempotently() {
+        YearMonth month = YearMonth.now().plusMonths(5);
+
+        archiver.createPartitions(month, 1);
+        archiver.createPartitions(month, 1);
+
+        for (String table : PartitionArchiver.TABLES) {
+            assertNotNull(jdbcTemplate.queryForObject("SELECT to_regclass(?)::text", String.class,
+                    PartitionArchiver.partitionName(table, month.plusMonths(1))));
+        }
+    }
+
+    @Test
+    void shouldKeepReferencesUniquePerMonthAndOffersWithTheirApplication() {
+        String email = "archive.orphans@example.com";
+        decisionService.processLoanApplication(new LoanApplicationRequestBuilder()
+                .withEmail(email)
+                .withSsn("8000000002")
+                .build());
+        long applicantId = applicantRepository.findByEmail(email).orElseThrow().getId();
+        String reference = jdbcTemplate.queryForObject(
+                "SELECT reference FROM loan_application WHERE applicant_id = ?", String.class, applicantId);
+
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT count(*) FROM loan_offer o JOIN loan_application a "
+                + "ON a.id = o.application_id WHERE a.applicant_id = ? AND o.created_at <> a.created_at",
+                Integer.class, applicantId));
+        assertThrows(DuplicateKeyException.class, () -> jdbcTemplate.update(
+                "INSERT INTO loan_application (id, applicant_id, requested_amount, credit_lines, created_at, "
+                        + "reference) VALUES (9100000, ?, 20000.00, 4, ?, ?)",
+                applicantId, LocalDateTime.now().withDayOfMonth(1).withHour(0), reference));
+
+        jdbcTemplate.update("DELETE FROM applicant WHERE id = ?", applicantId);
+
+        assertEquals(0, count("loan_application", applicantId));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM loan_offer o WHERE NOT EXISTS "
+                        + "(SELECT 1 FROM loan_application a WHERE a.id = o.application_id)", Integer.class));
+    }
+
+    // One current application through the service, plus OLD_ROWS applications and offers written straight
+    // into a partition for an expired month
+    private long seedExpiredMonth(YearMonth month) {
+        String email = "archive.check@example.com";
+        decisionService.processLoanApplication(new LoanApplicationRequestBuilder()
+                .withEmail(email)
+                .withSsn("8000000001")
+                .build());
+        long applicantId = applicantRepository.findByEmail(email).orElseThrow().getId();
+
+        archiver.createPartitions(month, 0);
+        LocalDateTime createdAt = month.atDay(10).atTime(12, 0);
+        for (int i = 0; i < OLD_ROWS; i++) {
+            long id = 9_000_000L + i;
+            jdbcTemplate.update("INSERT INTO loan_application (id, applicant_id, requested_amount, credit_lines, "
+                            + "created_at, reference) VALUES (?, ?, 20000.00, 4, ?, ?)",
+                    id, applicantId, createdAt.plusMinutes(i), "archived-" + i);
+            jdbcTemplate.update("INSERT INTO loan_offer (id, application_id, requested_amount, decision, reason, "
+                            + "created_at) VALUES (?, ?, 20000.00, 'DENIED', 'Reason, with \"quotes\"', ?)",
+                    id, id, createdAt.plusMinutes(i));
+        }
+        return applicantId;
+    }
+
+    private int count(String table, long applicantId) {
+        Integer rows = jdbcTemplate.queryForObject("SELECT count(*) FROM " + table + " WHERE applicant_id = ?",
+                Integer.class, applicantId);
+        return rows == null ? 0 : rows;
+    }
+
+    private static List<String> gunzip(Path file) throws Exception {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            return reader.lines().toList();
+        }
+    }
+}
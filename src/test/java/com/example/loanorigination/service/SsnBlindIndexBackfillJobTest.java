@@ -0,0 +1,48 @@
+package com.example.loanorigination.service;
+
+import com.example.loanorigination.util.BlindIndexUtil;
+import com.example.loanorigination.util.CryptoUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:ssn_backfill")
+class SsnBlindIndexBackfillJobTest {
+
+    @Autowired
+    private SsnBlindIndexBackfillJob backfillJob;
+
+    @Autowired
+    private CryptoUtil cryptoUtil;
+
+    @Autowired
+    private BlindIndexUtil blindIndexUtil;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldFillLegacyRowsAndLeaveIndexedRowsAlone() {
+        insertApplicant(9_600_001L, "legacy.backfill@example.com", "3000000001", null);
+        insertApplicant(9_600_002L, "indexed.backfill@example.com", "3000000002", "already-indexed");
+
+        assertEquals(1, backfillJob.backfill());
+
+        assertEquals(blindIndexUtil.hashSsn("3000000001"), ssnHash(9_600_001L));
+        assertEquals("already-indexed", ssnHash(9_600_002L));
+        assertEquals(0, backfillJob.backfill());
+    }
+
+    private void insertApplicant(long id, String email, String ssn, String ssnHash) {
+        jdbcTemplate.update("INSERT INTO applicant (id, name, address, email, phone, ssn, ssn_hash) "
+                        + "VALUES (?, 'Backfill Check', '1 Main St', ?, '5551234567', ?, ?)",
+                id, email, cryptoUtil.encrypt(ssn), ssnHash);
+    }
+
+    private String ssnHash(long id) {
+        return jdbcTemplate.queryForObject("SELECT ssn_hash FROM applicant WHERE id = ?", String.class, id);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.loanorigination.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Embedded credit bureau for tests, on a random local port. Answers {@code POST /credit-reports} with a fixed
+ * number of credit lines; latency and failures can be injected per test.
+ */
+public class StubCreditBureau implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private volatile int creditLines = 20;
+    private volatile int status = 200;
+    private volatile Duration delay = Duration.ZERO;
+    // Requests still to be delayed; negative means every request
+    private final AtomicInteger delayedRequests = new AtomicInteger(-1);
+
+    public StubCreditBureau() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/credit-reports", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public URI baseUrl() {
+        return URI.create("http://localhost:" + server.getAddress().getPort());
+    }
+
+    public StubCreditBureau creditLines(int creditLines) {
+        this.creditLines = creditLines;
+        return this;
+    }
+
+    public StubCreditBureau status(int status) {
+        this.status = status;
+        return this;
+    }
+
+    /** Delays every request by {@code delay}, standing in for bureau latency. */
+    public StubCreditBureau delayAll(Duration delay) {
+        return delayFirst(-1, delay);
+    }
+
+    /** Delays the next {@code count} requests; later ones are answered immediately. */
+    public StubCreditBureau delayFirst(int count, Duration delay) {
+        this.delay = delay;
+        this.delayedRequests.set(count);
+        return this;
+    }
+
+    public int requests() {
+        return requests.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try (exchange; InputStream body = exchange.getRequestBody()) {
+            body.readAllBytes();
+            if (shouldDelay()) {
+                Thread.sleep(delay.toMillis());
+            }
+            byte[] response = ("{\"creditLines\":" + creditLines + "}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean shouldDelay() {
+        if (delay.isZero()) {
+            return false;
+        }
+        int remaining = delayedRequests.getAndUpdate(n -> n > 0 ? n - 1 : n);
+        return remaining != 0;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
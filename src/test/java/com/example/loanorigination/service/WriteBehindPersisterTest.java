@@ -0,0 +1,79 @@
+package com.example.loanorigination.service;
+
+import com.example.loanorigination.repository.LoanApplicationRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:write_behind",
+        "loan.write-behind.enabled=true",
+        "loan.write-behind.flush-interval=300ms",
+        "loan.write-behind.retry-interval=500ms"})
+class WriteBehindPersisterTest {
+
+    @TempDir
+    static Path dir;
+
+    @DynamicPropertySource
+    static void journalPath(DynamicPropertyRegistry registry) {
+        registry.add("loan.write-behind.journal-path", () -> dir.resolve("write-behind.journal").toString());
+    }
+
+    @Autowired
+    private WriteBehindPersister persister;
+
+    @Autowired
+    private LoanApplicationRepository loanApplicationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldWriteTheRestOfABatchAndRetryTheItemThatFailed() throws Exception {
+        persister.submit(decision("wb-dup", 1));
+        awaitTrue(() -> persister.status("wb-dup") == WriteBehindPersister.Status.PERSISTED);
+
+        // Submitted within one flush interval, so they form one batch; the second collides on reference
+        persister.submit(decision("wb-ok-1", 2));
+        persister.submit(decision("wb-dup", 3));
+        persister.submit(decision("wb-ok-2", 4));
+
+        awaitTrue(() -> persister.status("wb-ok-1") == WriteBehindPersister.Status.PERSISTED
+                && persister.status("wb-ok-2") == WriteBehindPersister.Status.PERSISTED);
+        awaitTrue(() -> persister.status("wb-dup") == WriteBehindPersister.Status.FAILED);
+
+        // Once the conflicting rows are gone, the parked decision goes through on its next retry
+        jdbcTemplate.update("DELETE FROM loan_offer WHERE application_id IN "
+                + "(SELECT id FROM loan_application WHERE reference = 'wb-dup')");
+        jdbcTemplate.update("DELETE FROM loan_application WHERE reference = 'wb-dup'");
+        awaitTrue(() -> persister.status("wb-dup") == WriteBehindPersister.Status.PERSISTED);
+        assertTrue(loanApplicationRepository.existsByReference("wb-dup"));
+    }
+
+    private static PendingDecision decision(String reference, int applicant) {
+        return new PendingDecision(reference, "Write Behind " + applicant, "1 Main St",
+                "write.behind." + applicant + "@example.com", "5551234567", "v1:encrypted",
+                "wb-hash-" + applicant, BigDecimal.valueOf(20000), 15, "APPROVED", null,
+                BigDecimal.valueOf(0.20), 24, BigDecimal.valueOf(1017.92), "default", LocalDateTime.now());
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within 10s");
+            Thread.sleep(50);
+        }
+    }
+}
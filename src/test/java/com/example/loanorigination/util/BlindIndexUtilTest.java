@@ -0,0 +1,28 @@
+package com.example.loanorigination.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlindIndexUtilTest {
+
+    private final BlindIndexUtil blindIndexUtil = new BlindIndexUtil("blind-index-test-key");
+
+    @Test
+    void shouldBeDeterministicAndIgnoreFormatting() {
+        String hash = blindIndexUtil.hashSsn("123-45-6789");
+
+        assertEquals(hash, blindIndexUtil.hashSsn("123456789"));
+        assertEquals(hash, new BlindIndexUtil("blind-index-test-key").hashSsn("123 45 6789"));
+        assertTrue(hash.matches("[0-9a-f]{64}"), hash);
+    }
+
+    @Test
+    void shouldDependOnTheKeyAndTheSsn() {
+        String hash = blindIndexUtil.hashSsn("123456789");
+
+        assertNotEquals(hash, new BlindIndexUtil("another-test-key").hashSsn("123456789"));
+        assertNotEquals(hash, blindIndexUtil.hashSsn("123456780"));
+        assertNull(blindIndexUtil.hashSsn(null));
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.loanorigination.util;
+
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CryptoUtilTest {
+
+    private static final String KEY = "1234567890123456";
+
+    private final CryptoUtil cryptoUtil = new CryptoUtil(KEY);
+
+    @Test
+    void shouldRoundTripWithVersionedGcmFormat() {
+        String encrypted = cryptoUtil.encrypt("1234567890");
+
+        assertTrue(encrypted.startsWith(CryptoUtil.VERSION_PREFIX));
+        assertEquals("1234567890", cryptoUtil.decrypt(encrypted));
+    }
+
+    @Test
+    void shouldUseFreshIvPerValue() {
+        assertNotEquals(cryptoUtil.encrypt("1234567890"), cryptoUtil.encrypt("1234567890"));
+    }
+
+    @Test
+    void shouldDecryptLegacyEcbValues() throws Exception {
+        Cipher cipher = Cipher.getInstance("AES");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(KEY.getBytes(StandardCharsets.UTF_8), "AES"));
+        String legacy = Base64.getEncoder().encodeToString(
+                cipher.doFinal("1234567890".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("1234567890", cryptoUtil.decrypt(legacy));
+    }
+
+    @Test
+    void shouldRejectTamperedCiphertext() {
+        String encrypted = cryptoUtil.encrypt("1234567890");
+        byte[] raw = Base64.getDecoder().decode(encrypted.substring(CryptoUtil.VERSION_PREFIX.length()));
+        raw[raw.length - 1] ^= 0x01;
+        String tampered = CryptoUtil.VERSION_PREFIX + Base64.getEncoder().encodeToString(raw);
+
+        assertThrows(RuntimeException.class, () -> cryptoUtil.decrypt(tampered));
+    }
+
+    @Test
+    void shouldEncryptAndDecryptBatchesPreservingOrderAndNulls() {
+        List<String> ssns = Arrays.asList("1111111111", null, "2222222222");
+
+        List<String> decrypted = cryptoUtil.decryptAll(cryptoUtil.encryptAll(ssns));
+
+        assertEquals(ssns, decrypted);
+    }
+}
@@ -18,6 +18,16 @@ public class LoanApplicationRequestBuilder {
         return this;
     }
 
+    public LoanApplicationRequestBuilder withEmail(String email) {
+        this.email = email;
+        return this;
+    }
+
+    public LoanApplicationRequestBuilder withSsn(String ssn) {
+        this.ssn = ssn;
+        return this;
+    }
+
     public LoanApplicationRequestBuilder withRequestedAmount(BigDecimal requestedAmount) {
         this.requestedAmount = requestedAmount;
         return this;
@@ -0,0 +1,42 @@
+package com.example.loanorigination.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomSourceTest {
+
+    @Test
+    void shouldRepeatSequenceForSameSeed() {
+        assertArrayEquals(draw(RandomSource.seeded(7), 20), draw(RandomSource.seeded(7), 20));
+    }
+
+    @Test
+    void shouldGiveEachThreadItsOwnGenerator() throws Exception {
+        RandomSource source = RandomSource.seeded(7);
+        RandomGenerator mine = source.generator();
+
+        RandomGenerator other = CompletableFuture.supplyAsync(source::generator).get();
+
+        assertSame(mine, source.generator());
+        assertNotSame(mine, other);
+    }
+
+    @Test
+    void shouldDrawWithinBoundsFromThreadLocalSource() {
+        for (int value : draw(RandomSource.threadLocal(), 1000)) {
+            assertTrue(value >= 0 && value <= 100);
+        }
+    }
+
+    private static int[] draw(RandomSource source, int count) {
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = source.generator().nextInt(101);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.loanorigination.validation;
+
+import com.example.loanorigination.dto.LoanApplicationRequestDto;
+import com.example.loanorigination.util.LoanApplicationRequestBuilder;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoanApplicationRequestValidatorTest {
+
+    private static final ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+    private static final Validator beanValidator = factory.getValidator();
+
+    private final LoanApplicationRequestValidator validator = new LoanApplicationRequestValidator(beanValidator);
+
+    @AfterAll
+    static void closeFactory() {
+        factory.close();
+    }
+
+    @Test
+    void shouldPassValidRequestWithoutBeanValidation() {
+        LoanApplicationRequestDto request = new LoanApplicationRequestBuilder().build();
+
+        assertTrue(LoanApplicationRequestValidator.passes(request));
+        assertTrue(validator.errors(request).isEmpty());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "john.doe@example.com", "a@b", "first+tag@sub.example.co", "o'brien@example.com", "a..b@example.com",
+            ".a@example.com", "a.@example.com", "a@-example.com", "a@example-.com", "a@example..com", "a@example.com.",
+            "\"quoted\"@example.com", "a@[127.0.0.1]", "\u00fcser@example.com", "user@ex\u00e4mple.com", "no-at-sign",
+            "@example.com", "a@", "a@b@example.com", " john@example.com"
+    })
+    void shouldMatchBeanValidationForEmails(String email) {
+        assertSameAsBeanValidation(request -> {
+            request.setEmail(email);
+            return request;
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1234567890", "123456789", "12345678901", "12345-6789", "123456789\n",
+            "\u0661\u0662\u0663\u0664\u0665\u0666\u0667\u0668\u0669\u0660"})
+    void shouldMatchBeanValidationForDigitFields(String value) {
+        assertSameAsBeanValidation(request -> {
+            request.setPhone(value);
+            return request;
+        });
+        assertSameAsBeanValidation(request -> {
+            request.setSsn(value);
+            return request;
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"x", " x ", " ", "\t\n", "\u00a0", "\u2003"})
+    void shouldMatchBeanValidationForRequiredText(String value) {
+        assertSameAsBeanValidation(request -> {
+            request.setName(value);
+            request.setAddress(value);
+            return request;
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1", "1.0", "1.000", "0.999", "0", "-5", "50000"})
+    void shouldMatchBeanValidationForAmounts(String amount) {
+        assertSameAsBeanValidation(request -> {
+            request.setRequestedAmount(new BigDecimal(amount));
+            return request;
+        });
+    }
+
+    @Test
+    void shouldReportEveryMissingField() {
+        Map<String, String> errors = validator.errors(new LoanApplicationRequestDto());
+
+        assertEquals(Map.of(
+                "name", "Name is required",
+                "address", "Address is required",
+                "email", "Email is required",
+                "phone", "Phone number is required",
+                "ssn", "SSN is required",
+                "requestedAmount", "Requested loan amount is required"), errors);
+    }
+
+    private void assertSameAsBeanValidation(UnaryOperator<LoanApplicationRequestDto> change) {
+        LoanApplicationRequestDto request = change.apply(new LoanApplicationRequestBuilder().build());
+        Map<String, String> expected = new HashMap<>();
+        for (ConstraintViolation<LoanApplicationRequestDto> violation : beanValidator.validate(request)) {
+            expected.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+
+        assertEquals(expected, validator.errors(request));
+        if (LoanApplicationRequestValidator.passes(request)) {
+            assertTrue(expected.isEmpty(), "fast path accepted an invalid request: " + request);
+        }
+    }
+}